@@ -1,25 +1,54 @@
 package com.akella.todolistapi;
 
 import com.akella.todolistapi.enums.Role;
+import com.akella.todolistapi.journal.TaskEvent;
+import com.akella.todolistapi.journal.TaskEventAggregates;
+import com.akella.todolistapi.journal.TaskEventJournal;
+import com.akella.todolistapi.journal.TaskEventReader;
 import com.akella.todolistapi.model.User;
+import com.akella.todolistapi.repository.UserPurgeRepository;
 import com.akella.todolistapi.repository.UserRepository;
+import com.akella.todolistapi.service.DatasetGeneratorService;
+import com.akella.todolistapi.service.TaskImportService;
+import com.akella.todolistapi.service.UserPurgeService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.shell.standard.ShellComponent;
 import org.springframework.shell.standard.ShellMethod;
 import org.springframework.shell.standard.ShellOption;
 
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
 
 @ShellComponent
 @RequiredArgsConstructor
 public class ShellCommands {
 
     private UserRepository userRepository;
+    private TaskImportService taskImportService;
+    private DatasetGeneratorService datasetGeneratorService;
+    private TaskEventJournal taskEventJournal;
+    private UserPurgeService userPurgeService;
+    private UserPurgeRepository userPurgeRepository;
 
     @Autowired
-    public ShellCommands(UserRepository userRepository) {
+    public ShellCommands(UserRepository userRepository,
+                         TaskImportService taskImportService,
+                         DatasetGeneratorService datasetGeneratorService,
+                         TaskEventJournal taskEventJournal,
+                         UserPurgeService userPurgeService,
+                         UserPurgeRepository userPurgeRepository) {
         this.userRepository = userRepository;
+        this.taskImportService = taskImportService;
+        this.datasetGeneratorService = datasetGeneratorService;
+        this.taskEventJournal = taskEventJournal;
+        this.userPurgeService = userPurgeService;
+        this.userPurgeRepository = userPurgeRepository;
     }
 
     @ShellMethod(key = "make-admin", value = "Make user admin by email")
@@ -31,4 +60,89 @@ public class ShellCommands {
         });
         return "Done!";
     }
+
+    @ShellMethod(key = "import-tasks", value = "Import tasks from an NDJSON or CSV (email,description,deadlineDateTime,isCompleted) file")
+    public String importTasks(@ShellOption(help = "Path to a .ndjson or .csv file") String file,
+                              @ShellOption(help = "Rows per batch", defaultValue = "10000") int batchSize,
+                              @ShellOption(help = "Ignore the saved checkpoint and import the whole file again",
+                                      defaultValue = "false") boolean fromStart) throws IOException {
+        TaskImportService.ImportResult result = taskImportService.importTasks(Path.of(file), batchSize, fromStart);
+        return String.format("Imported %d tasks (%d rows skipped) in %.1f s, %d rows/s%s",
+                result.imported(), result.skipped(), result.elapsedMillis() / 1000.0, result.rowsPerSecond(),
+                result.resumedFrom() > 0 ? ", resumed at byte " + result.resumedFrom() : "");
+    }
+
+    @ShellMethod(key = "generate-dataset", value = "Generate a reproducible synthetic dataset of users and tasks")
+    public String generateDataset(@ShellOption(help = "Number of users") int users,
+                                  @ShellOption(help = "Upper bound of tasks per user", defaultValue = "10000") int maxTasksPerUser,
+                                  @ShellOption(help = "Zipf exponent of the tasks-per-user distribution", defaultValue = "1.2") double skew,
+                                  @ShellOption(help = "Random seed, also part of the generated emails", defaultValue = "42") long seed,
+                                  @ShellOption(help = "Share of tasks without a deadline", defaultValue = "0.3") double nullDeadlineRatio,
+                                  @ShellOption(help = "Share of completed tasks", defaultValue = "0.4") double completedRatio,
+                                  @ShellOption(help = "Minimum description length", defaultValue = "10") int minDescriptionLength,
+                                  @ShellOption(help = "Maximum description length", defaultValue = "120") int maxDescriptionLength,
+                                  @ShellOption(help = "Deadlines are spread from 30 days before to 180 days after this date-time",
+                                          defaultValue = "2025-01-01T00:00") String deadlineAnchor,
+                                  @ShellOption(help = "Rows per batch", defaultValue = "10000") int batchSize,
+                                  @ShellOption(help = "Worker threads, 0 for one per core", defaultValue = "0") int threads)
+            throws InterruptedException, ExecutionException {
+        DatasetGeneratorService.DatasetResult result = datasetGeneratorService.generate(DatasetGeneratorService.DatasetSpec.builder()
+                .users(users)
+                .maxTasksPerUser(maxTasksPerUser)
+                .skew(skew)
+                .seed(seed)
+                .nullDeadlineRatio(nullDeadlineRatio)
+                .completedRatio(completedRatio)
+                .minDescriptionLength(minDescriptionLength)
+                .maxDescriptionLength(maxDescriptionLength)
+                .deadlineAnchor(LocalDateTime.parse(deadlineAnchor))
+                .batchSize(batchSize)
+                .threads(threads)
+                .build());
+        return String.format("Generated %d users and %d tasks in %.1f s, %d rows/s (user password: %s)",
+                result.users(), result.tasks(), result.elapsedMillis() / 1000.0, result.rowsPerSecond(),
+                DatasetGeneratorService.DEFAULT_PASSWORD);
+    }
+
+    @ShellMethod(key = "replay-journal", value = "Rebuild task activity aggregates from the task event journal")
+    public String replayJournal(@ShellOption(help = "First sequence number to replay", defaultValue = "0") long fromSequence,
+                                @ShellOption(help = "Number of most active users to list", defaultValue = "10") int top)
+            throws IOException {
+        TaskEventAggregates aggregates = new TaskEventAggregates();
+        long startedAt = System.currentTimeMillis();
+        try (TaskEventReader reader = taskEventJournal.reader(fromSequence)) {
+            TaskEvent event;
+            while ((event = reader.next()) != null) {
+                aggregates.accept(event);
+            }
+        }
+        long elapsed = Math.max(System.currentTimeMillis() - startedAt, 1);
+
+        StringBuilder report = new StringBuilder(String.format("Replayed %d events up to sequence %d in %d ms (%d events/s)%n",
+                aggregates.getEvents(), aggregates.getLastSequence(), elapsed, aggregates.getEvents() * 1000 / elapsed));
+        aggregates.getEventsByType().forEach((type, count) -> report.append(String.format("  %-10s %d%n", type, count)));
+        report.append(String.format("Most active users (created / completed / deleted):%n"));
+        aggregates.getActivityByUser().entrySet().stream()
+                .sorted(Comparator.comparingLong((Map.Entry<Long, TaskEventAggregates.UserActivity> entry) -> entry.getValue().getCreated()).reversed())
+                .limit(top)
+                .forEach(entry -> report.append(String.format("  user %d: %d / %d / %d%n", entry.getKey(),
+                        entry.getValue().getCreated(), entry.getValue().getCompleted(), entry.getValue().getDeleted())));
+        return report.toString();
+    }
+
+    @ShellMethod(key = "delete-user", value = "Delete user by email; the user's tasks are purged in the background")
+    public String deleteUser(@ShellOption(help = "User email") String email) {
+        Optional<User> optionalUser = userRepository.findByEmailAndDeletedFalse(email);
+        optionalUser.ifPresent(userPurgeService::requestDeletion);
+        return optionalUser.isPresent() ? "Deletion requested, see purge-status" : "User not found";
+    }
+
+    @ShellMethod(key = "purge-status", value = "Show pending and recent account purges")
+    public String purgeStatus(@ShellOption(help = "Number of most recent purges to list", defaultValue = "20") int limit) {
+        StringBuilder report = new StringBuilder(String.format("%-12s %-10s %14s  %-24s %s%n",
+                "user", "status", "tasks deleted", "requested", "updated"));
+        userPurgeRepository.findRecent(limit).forEach(purge -> report.append(String.format("%-12d %-10s %14d  %-24s %s%n",
+                purge.userId(), purge.status(), purge.tasksDeleted(), purge.requestedAt(), purge.updatedAt())));
+        return report.toString();
+    }
 }
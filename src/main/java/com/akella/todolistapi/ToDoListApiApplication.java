@@ -1,12 +1,34 @@
 package com.akella.todolistapi;
 
+import com.akella.todolistapi.reactive.ReactiveToDoListApiApplication;
 import org.springframework.boot.SpringApplication;
-import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.AutoConfigurationExcludeFilter;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcAutoConfiguration;
+import org.springframework.boot.context.TypeExcludeFilter;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
-@SpringBootApplication()
+/**
+ * Servlet (Spring MVC + JPA) application. The reactive variant lives in its own package and is started
+ * instead when the {@code reactive} profile is active, see {@link ReactiveToDoListApiApplication}.
+ */
+@SpringBootConfiguration
+@EnableAutoConfiguration(exclude = R2dbcAutoConfiguration.class)
+@ComponentScan(excludeFilters = {
+        @ComponentScan.Filter(type = FilterType.CUSTOM, classes = TypeExcludeFilter.class),
+        @ComponentScan.Filter(type = FilterType.CUSTOM, classes = AutoConfigurationExcludeFilter.class),
+        @ComponentScan.Filter(type = FilterType.REGEX, pattern = "com\\.akella\\.todolistapi\\.reactive\\..*")})
+@EnableScheduling
 public class ToDoListApiApplication {
 
     public static void main(String[] args) {
+        if (ReactiveToDoListApiApplication.isActive(args)) {
+            ReactiveToDoListApiApplication.main(args);
+            return;
+        }
         SpringApplication.run(ToDoListApiApplication.class, args);
     }
 
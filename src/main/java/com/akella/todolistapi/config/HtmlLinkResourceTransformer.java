@@ -0,0 +1,51 @@
+package com.akella.todolistapi.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.core.io.Resource;
+import org.springframework.lang.NonNull;
+import org.springframework.util.FileCopyUtils;
+import org.springframework.web.servlet.resource.ResourceTransformerChain;
+import org.springframework.web.servlet.resource.ResourceTransformerSupport;
+import org.springframework.web.servlet.resource.TransformedResource;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Rewrites script and stylesheet links in static pages to their content-hashed URLs,
+ * the HTML counterpart of {@link org.springframework.web.servlet.resource.CssLinkResourceTransformer}.
+ * <p>
+ * Links are made absolute first, so they are looked up through the {@code ResourceUrlProvider} across all
+ * resource handlers: the pages' own handler has no version resolver and would return them unchanged.
+ */
+public class HtmlLinkResourceTransformer extends ResourceTransformerSupport {
+
+    private static final Pattern LINK_PATTERN = Pattern.compile("(src|href)=\"([^\"#:?]+\\.(?:js|css))\"");
+
+    @Override
+    @NonNull
+    public Resource transform(@NonNull HttpServletRequest request,
+                              @NonNull Resource resource,
+                              @NonNull ResourceTransformerChain transformerChain) throws IOException {
+        resource = transformerChain.transform(request, resource);
+        String filename = resource.getFilename();
+        if (filename == null || !filename.endsWith(".html")) {
+            return resource;
+        }
+
+        String content = new String(FileCopyUtils.copyToByteArray(resource.getInputStream()), StandardCharsets.UTF_8);
+        Matcher matcher = LINK_PATTERN.matcher(content);
+        StringBuilder result = new StringBuilder(content.length());
+        while (matcher.find()) {
+            String link = matcher.group(2);
+            String absoluteLink = link.startsWith("/") ? link : toAbsolutePath(link, request);
+            String resolved = resolveUrlPath(absoluteLink, request, resource, transformerChain);
+            String replacement = matcher.group(1) + "=\"" + (resolved != null ? resolved : link) + "\"";
+            matcher.appendReplacement(result, Matcher.quoteReplacement(replacement));
+        }
+        matcher.appendTail(result);
+        return new TransformedResource(resource, result.toString().getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,40 @@
+package com.akella.todolistapi.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.support.ServletRequestHandledEvent;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Records the time from JVM start until the first request has been served, exposed as the
+ * {@code application.first.request.time} metric next to Boot's {@code application.ready.time}.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StartupTimingListener {
+
+    private final MeterRegistry meterRegistry;
+    private final AtomicLong firstRequestMillis = new AtomicLong(-1);
+
+    @EventListener
+    public void onRequestHandled(ServletRequestHandledEvent event) {
+        if (firstRequestMillis.get() >= 0) {
+            return;
+        }
+        long elapsed = System.currentTimeMillis() - ManagementFactory.getRuntimeMXBean().getStartTime();
+        if (firstRequestMillis.compareAndSet(-1, elapsed)) {
+            TimeGauge.builder("application.first.request.time", firstRequestMillis, TimeUnit.MILLISECONDS, AtomicLong::get)
+                    .description("Time from JVM start until the first request was served")
+                    .register(meterRegistry);
+            log.info("First request served {} ms after JVM start", elapsed);
+        }
+    }
+}
@@ -1,10 +1,14 @@
 package com.akella.todolistapi.controller;
 
+import com.akella.todolistapi.dto.RefreshTokenRequest;
 import com.akella.todolistapi.dto.UserDto;
 import com.akella.todolistapi.security.AuthenticationResponse;
 import com.akella.todolistapi.service.AuthenticationService;
+import io.jsonwebtoken.JwtException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.AuthenticationException;
 import org.springframework.web.bind.annotation.*;
 
 @RestController
@@ -23,4 +27,27 @@ public class AuthenticationController {
     public ResponseEntity<AuthenticationResponse> loginUser(@RequestBody UserDto loginData) {
         return ResponseEntity.ok(authenticationService.login(loginData));
     }
+
+    @PostMapping("/refresh")
+    public ResponseEntity<AuthenticationResponse> refreshToken(@RequestBody RefreshTokenRequest refreshData) {
+        try {
+            return ResponseEntity.ok(authenticationService.refresh(refreshData.getRefreshToken()));
+        } catch (AuthenticationException | JwtException | IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+    }
+
+    @PostMapping("/logout")
+    public ResponseEntity<?> logoutUser(@RequestHeader(value = "Authorization", required = false) String authorizationHeader,
+                                        @RequestBody(required = false) RefreshTokenRequest logoutData) {
+        String accessToken = authorizationHeader != null && authorizationHeader.startsWith("Bearer ")
+                ? authorizationHeader.substring(7)
+                : null;
+        try {
+            authenticationService.logout(accessToken, logoutData != null ? logoutData.getRefreshToken() : null);
+            return ResponseEntity.ok().build();
+        } catch (JwtException | IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+    }
 }
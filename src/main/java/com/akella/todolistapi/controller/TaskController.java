@@ -1,5 +1,8 @@
 package com.akella.todolistapi.controller;
 
+import com.akella.todolistapi.enums.TaskEventType;
+import com.akella.todolistapi.journal.TaskEvent;
+import com.akella.todolistapi.journal.TaskEventJournal;
 import com.akella.todolistapi.model.User;
 import com.akella.todolistapi.repository.TaskRepository;
 import com.akella.todolistapi.dto.TaskDto;
@@ -19,11 +22,13 @@ public class TaskController {
 
     private final TaskRepository taskRepository;
     private final UserRepository userRepository;
+    private final TaskEventJournal taskEventJournal;
 
     @Autowired
-    public TaskController(TaskRepository taskRepository, UserRepository userRepository) {
+    public TaskController(TaskRepository taskRepository, UserRepository userRepository, TaskEventJournal taskEventJournal) {
         this.taskRepository = taskRepository;
         this.userRepository = userRepository;
+        this.taskEventJournal = taskEventJournal;
     }
 
     @PostMapping("/tasks")
@@ -35,6 +40,7 @@ public class TaskController {
             task.setUser(currentUser);
 
             Task saved = taskRepository.save(task);
+            taskEventJournal.append(TaskEvent.of(TaskEventType.CREATED, saved.getId(), currentUser.getId()));
             return ResponseEntity.ok(TaskMapper.toDto(saved));
         } catch (Exception e) {
             return ResponseEntity.badRequest().build();
@@ -60,6 +66,8 @@ public class TaskController {
 
             task.setIsCompleted(!task.getIsCompleted());
             Task updated = taskRepository.save(task);
+            taskEventJournal.append(TaskEvent.of(updated.getIsCompleted() ? TaskEventType.COMPLETED : TaskEventType.REOPENED,
+                    updated.getId(), currentUser.getId()));
             return ResponseEntity.ok(TaskMapper.toDto(updated));
         } catch (IllegalArgumentException e) {
             return ResponseEntity.notFound().build();
@@ -77,6 +85,7 @@ public class TaskController {
                     .orElseThrow(() -> new IllegalArgumentException("Task not found or access denied"));
 
             taskRepository.deleteById(id);
+            taskEventJournal.append(TaskEvent.of(TaskEventType.DELETED, task.getId(), currentUser.getId()));
             return ResponseEntity.ok().build();
         } catch (IllegalArgumentException e) {
             return ResponseEntity.notFound().build();
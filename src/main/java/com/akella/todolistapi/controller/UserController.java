@@ -0,0 +1,35 @@
+package com.akella.todolistapi.controller;
+
+import com.akella.todolistapi.model.User;
+import com.akella.todolistapi.repository.UserRepository;
+import com.akella.todolistapi.service.UserPurgeService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/users")
+public class UserController {
+
+    private final UserRepository userRepository;
+    private final UserPurgeService userPurgeService;
+
+    /**
+     * Deletes the current account. The account is unusable once this returns; its tasks are removed in the background.
+     */
+    @DeleteMapping("/me")
+    public ResponseEntity<?> deleteCurrentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return userRepository.findByEmailAndDeletedFalse(authentication.getName())
+                .map(user -> {
+                    userPurgeService.requestDeletion(user);
+                    return ResponseEntity.accepted().build();
+                })
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+}
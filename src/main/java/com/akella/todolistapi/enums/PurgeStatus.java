@@ -0,0 +1,7 @@
+package com.akella.todolistapi.enums;
+
+public enum PurgeStatus {
+
+    PENDING,
+    COMPLETED
+}
@@ -0,0 +1,9 @@
+package com.akella.todolistapi.enums;
+
+public enum TaskEventType {
+
+    CREATED,
+    COMPLETED,
+    REOPENED,
+    DELETED
+}
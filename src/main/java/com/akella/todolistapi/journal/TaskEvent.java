@@ -0,0 +1,58 @@
+package com.akella.todolistapi.journal;
+
+import com.akella.todolistapi.enums.TaskEventType;
+
+import java.nio.ByteBuffer;
+import java.util.zip.CRC32;
+
+/**
+ * A task mutation as stored in the journal.
+ * <p>
+ * Binary layout, {@value #SIZE} bytes: timestamp (epoch millis), task id, user id, type ordinal + 1,
+ * CRC32 of the preceding 28 bytes. A zero type marks the unwritten tail of a segment.
+ *
+ * @param sequence position in the journal; assigned by the writer, {@code -1} until then
+ */
+public record TaskEvent(long sequence, long timestamp, TaskEventType type, long taskId, long userId) {
+
+    public static final int SIZE = 32;
+
+    public static TaskEvent of(TaskEventType type, long taskId, long userId) {
+        return new TaskEvent(-1, System.currentTimeMillis(), type, taskId, userId);
+    }
+
+    void writeTo(ByteBuffer buffer) {
+        int start = buffer.position();
+        buffer.putLong(timestamp)
+                .putLong(taskId)
+                .putLong(userId)
+                .putInt(type.ordinal() + 1);
+        buffer.putInt(checksum(buffer, start));
+    }
+
+    /**
+     * @return the event at the buffer's position, or {@code null} if it holds no complete record
+     */
+    static TaskEvent readFrom(ByteBuffer buffer, long sequence) {
+        if (buffer.remaining() < SIZE) {
+            return null;
+        }
+        int start = buffer.position();
+        long timestamp = buffer.getLong(start);
+        long taskId = buffer.getLong(start + 8);
+        long userId = buffer.getLong(start + 16);
+        int type = buffer.getInt(start + 24);
+        int checksum = buffer.getInt(start + 28);
+        if (type <= 0 || type > TaskEventType.values().length || checksum != checksum(buffer, start)) {
+            return null;
+        }
+        buffer.position(start + SIZE);
+        return new TaskEvent(sequence, timestamp, TaskEventType.values()[type - 1], taskId, userId);
+    }
+
+    private static int checksum(ByteBuffer buffer, int start) {
+        CRC32 crc = new CRC32();
+        crc.update(buffer.slice(start, SIZE - 4));
+        return (int) crc.getValue();
+    }
+}
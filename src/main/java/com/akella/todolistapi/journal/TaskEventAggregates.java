@@ -0,0 +1,41 @@
+package com.akella.todolistapi.journal;
+
+import com.akella.todolistapi.enums.TaskEventType;
+import lombok.Getter;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Activity aggregates rebuilt by replaying the journal: event counts per type and, per user,
+ * how many tasks were created, completed (net of reopens) and deleted.
+ */
+@Getter
+public class TaskEventAggregates {
+
+    private final Map<TaskEventType, Long> eventsByType = new EnumMap<>(TaskEventType.class);
+    private final Map<Long, UserActivity> activityByUser = new HashMap<>();
+    private long events;
+    private long lastSequence = -1;
+
+    @Getter
+    public static class UserActivity {
+        private long created;
+        private long completed;
+        private long deleted;
+    }
+
+    public void accept(TaskEvent event) {
+        events++;
+        lastSequence = event.sequence();
+        eventsByType.merge(event.type(), 1L, Long::sum);
+        UserActivity activity = activityByUser.computeIfAbsent(event.userId(), id -> new UserActivity());
+        switch (event.type()) {
+            case CREATED -> activity.created++;
+            case COMPLETED -> activity.completed++;
+            case REOPENED -> activity.completed--;
+            case DELETED -> activity.deleted++;
+        }
+    }
+}
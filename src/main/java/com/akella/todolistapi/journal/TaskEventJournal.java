@@ -0,0 +1,203 @@
+package com.akella.todolistapi.journal;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Stream;
+
+/**
+ * Append-only journal of task mutations in fixed-size, memory-mapped segment files.
+ * <p>
+ * {@link #append} only enqueues the event on a lock-free queue. A single writer thread owns the mapped
+ * segment: it drains everything queued, writes the records and then forces them to disk once for the
+ * whole batch (group commit). Appends are therefore asynchronous; events queued at shutdown are still
+ * written before the writer stops.
+ * <p>
+ * Segments are named after the sequence number of their first event and rolled when full; only the
+ * newest {@code retainedSegments} are kept.
+ */
+@Slf4j
+@Component
+@Setter
+@ConfigurationProperties(prefix = "todolist.journal")
+public class TaskEventJournal {
+
+    private static final String SEGMENT_SUFFIX = ".journal";
+
+    private boolean enabled = true;
+    private String directory = "journal";
+    private int segmentSize = 64 * 1024 * 1024;
+    private int retainedSegments = 16;
+    private int maxBatchSize = 4096;
+    private long idleFlushMillis = 10;
+
+    private final Queue<TaskEvent> queue = new ConcurrentLinkedQueue<>();
+    private volatile boolean running;
+    private volatile boolean writerParked;
+    private Thread writer;
+
+    // Owned by the writer thread
+    private FileChannel segmentChannel;
+    private MappedByteBuffer segment;
+    private long nextSequence;
+    private int forcedPosition;
+
+    @PostConstruct
+    public void start() throws IOException {
+        if (!enabled) {
+            return;
+        }
+        Path root = Path.of(directory);
+        Files.createDirectories(root);
+        List<Path> segments = segments(root);
+        if (segments.isEmpty()) {
+            openSegment(0);
+        } else {
+            recoverSegment(segments.get(segments.size() - 1));
+        }
+        running = true;
+        writer = new Thread(this::runWriter, "task-event-journal");
+        writer.setDaemon(true);
+        writer.start();
+        log.info("Task event journal at {}, next sequence {}", root.toAbsolutePath(), nextSequence);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        if (!running) {
+            return;
+        }
+        running = false;
+        LockSupport.unpark(writer);
+        writer.join(TimeUnit.SECONDS.toMillis(10));
+    }
+
+    public void append(TaskEvent event) {
+        if (!running) {
+            return;
+        }
+        queue.offer(event);
+        if (writerParked) {
+            LockSupport.unpark(writer);
+        }
+    }
+
+    /**
+     * Opens a sequential reader positioned at the first retained event with a sequence of at least
+     * {@code fromSequence}. Only events that are completely written are returned.
+     */
+    public TaskEventReader reader(long fromSequence) throws IOException {
+        return new TaskEventReader(segments(Path.of(directory)), fromSequence);
+    }
+
+    private void runWriter() {
+        int unforced = 0;
+        while (running || !queue.isEmpty()) {
+            TaskEvent event = queue.poll();
+            if (event != null) {
+                write(event);
+                if (++unforced < maxBatchSize) {
+                    continue;
+                }
+            }
+            if (unforced > 0) {
+                force();
+                unforced = 0;
+                continue;
+            }
+            writerParked = true;
+            if (queue.isEmpty() && running) {
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(idleFlushMillis));
+            }
+            writerParked = false;
+        }
+        force();
+    }
+
+    private void write(TaskEvent event) {
+        try {
+            if (segment.remaining() < TaskEvent.SIZE) {
+                force();
+                openSegment(nextSequence);
+                applyRetention();
+            }
+            event.writeTo(segment);
+            nextSequence++;
+        } catch (IOException e) {
+            log.error("Failed to write task event {}", event, e);
+        }
+    }
+
+    private void force() {
+        int position = segment.position();
+        if (position > forcedPosition) {
+            segment.force(forcedPosition, position - forcedPosition);
+            forcedPosition = position;
+        }
+    }
+
+    private void openSegment(long firstSequence) throws IOException {
+        closeSegment();
+        Path path = Path.of(directory, String.format("%020d%s", firstSequence, SEGMENT_SUFFIX));
+        segmentChannel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        segment = segmentChannel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize - segmentSize % TaskEvent.SIZE);
+        nextSequence = firstSequence;
+        forcedPosition = 0;
+    }
+
+    private void recoverSegment(Path path) throws IOException {
+        long firstSequence = firstSequence(path);
+        segmentChannel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        segment = segmentChannel.map(FileChannel.MapMode.READ_WRITE, 0, segmentChannel.size());
+        long count = 0;
+        while (TaskEvent.readFrom(segment, firstSequence + count) != null) {
+            count++;
+        }
+        nextSequence = firstSequence + count;
+        forcedPosition = segment.position();
+    }
+
+    private void closeSegment() throws IOException {
+        if (segmentChannel != null) {
+            segmentChannel.close();
+        }
+    }
+
+    private void applyRetention() throws IOException {
+        List<Path> segments = segments(Path.of(directory));
+        for (int i = 0; i < segments.size() - retainedSegments; i++) {
+            Files.deleteIfExists(segments.get(i));
+        }
+    }
+
+    static List<Path> segments(Path root) throws IOException {
+        if (!Files.isDirectory(root)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(root)) {
+            return files.filter(path -> path.getFileName().toString().endsWith(SEGMENT_SUFFIX))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    static long firstSequence(Path segment) {
+        String name = segment.getFileName().toString();
+        return Long.parseLong(name.substring(0, name.length() - SEGMENT_SUFFIX.length()));
+    }
+}
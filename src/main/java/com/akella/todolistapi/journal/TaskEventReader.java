@@ -0,0 +1,78 @@
+package com.akella.todolistapi.journal;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Sequential, read-only cursor over the journal segments, see {@link TaskEventJournal#reader(long)}.
+ */
+public class TaskEventReader implements Closeable {
+
+    private final List<Path> segments;
+    private final long fromSequence;
+    private int segmentIndex = -1;
+    private FileChannel channel;
+    private MappedByteBuffer buffer;
+    private long sequence;
+
+    TaskEventReader(List<Path> segments, long fromSequence) {
+        this.segments = segments;
+        this.fromSequence = fromSequence;
+        for (int i = 0; i < segments.size(); i++) {
+            if (TaskEventJournal.firstSequence(segments.get(i)) <= fromSequence) {
+                segmentIndex = i - 1;
+            }
+        }
+    }
+
+    /**
+     * @return the next event, or {@code null} once the end of the written journal is reached
+     */
+    public TaskEvent next() throws IOException {
+        while (true) {
+            if (buffer != null) {
+                TaskEvent event = TaskEvent.readFrom(buffer, sequence);
+                if (event != null) {
+                    sequence++;
+                    if (event.sequence() >= fromSequence) {
+                        return event;
+                    }
+                    continue;
+                }
+            }
+            if (!openNextSegment()) {
+                return null;
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (channel != null) {
+            channel.close();
+        }
+    }
+
+    private boolean openNextSegment() throws IOException {
+        while (++segmentIndex < segments.size()) {
+            close();
+            Path path = segments.get(segmentIndex);
+            try {
+                channel = FileChannel.open(path, StandardOpenOption.READ);
+            } catch (NoSuchFileException e) {
+                // Removed by retention while we were reading
+                continue;
+            }
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            sequence = TaskEventJournal.firstSequence(path);
+            return true;
+        }
+        return false;
+    }
+}
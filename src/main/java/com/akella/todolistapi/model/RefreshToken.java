@@ -0,0 +1,24 @@
+package com.akella.todolistapi.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+@Entity
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class RefreshToken {
+    @Id
+    private String id;
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+    @Column(nullable = false)
+    private Instant expiresAt;
+    @Column(nullable = false)
+    @Builder.Default
+    private Boolean revoked = false;
+}
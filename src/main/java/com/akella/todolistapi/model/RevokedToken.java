@@ -0,0 +1,24 @@
+package com.akella.todolistapi.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+@Entity
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class RevokedToken {
+    @Id
+    private String jti;
+    @Column(nullable = false)
+    private Instant expiresAt;
+    /** Set by the database, so all instances compare against the same clock. */
+    @Column(nullable = false, insertable = false, updatable = false)
+    private Instant createdAt;
+
+    public RevokedToken(String jti, Instant expiresAt) {
+        this(jti, expiresAt, null);
+    }
+}
@@ -0,0 +1,61 @@
+package com.akella.todolistapi.reactive;
+
+import com.akella.todolistapi.journal.TaskEventJournal;
+import com.akella.todolistapi.security.TokenRevocationList;
+import com.akella.todolistapi.service.JwtService;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceTransactionManagerAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.env.SimpleCommandLinePropertySource;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import java.util.Arrays;
+
+/**
+ * Non-blocking variant of the API: WebFlux on Netty, R2DBC instead of JPA and a {@code WebFilter} port of the
+ * JWT authentication. Serves the same {@code /tasks} and {@code /auth} contracts as the servlet application,
+ * against the same schema, and shares {@link JwtService}, {@link TokenRevocationList}, the task event journal
+ * and the {@code TaskDto} mapping with it. Flyway still migrates the schema over JDBC at startup.
+ */
+@SpringBootApplication(exclude = {
+        DataSourceAutoConfiguration.class,
+        DataSourceTransactionManagerAutoConfiguration.class,
+        HibernateJpaAutoConfiguration.class})
+@Import({JwtService.class, TokenRevocationList.class, TaskEventJournal.class})
+@EnableScheduling
+public class ReactiveToDoListApiApplication {
+
+    public static final String PROFILE = "reactive";
+
+    /**
+     * Tomcat is on the classpath for the servlet mode and would otherwise be preferred.
+     */
+    @Bean
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+        return new NettyReactiveWebServerFactory();
+    }
+
+    public static void main(String[] args) {
+        SpringApplication application = new SpringApplication(ReactiveToDoListApiApplication.class);
+        application.setWebApplicationType(WebApplicationType.REACTIVE);
+        application.setAdditionalProfiles(PROFILE);
+        application.run(args);
+    }
+
+    /**
+     * @return whether the {@code reactive} profile is requested on the command line, as a system property or
+     * through {@code SPRING_PROFILES_ACTIVE}
+     */
+    public static boolean isActive(String[] args) {
+        StandardEnvironment environment = new StandardEnvironment();
+        environment.getPropertySources().addFirst(new SimpleCommandLinePropertySource(args));
+        return Arrays.asList(environment.getActiveProfiles()).contains(PROFILE);
+    }
+}
@@ -0,0 +1,57 @@
+package com.akella.todolistapi.reactive.controller;
+
+import com.akella.todolistapi.dto.RefreshTokenRequest;
+import com.akella.todolistapi.dto.UserDto;
+import com.akella.todolistapi.reactive.service.ReactiveAuthenticationService;
+import com.akella.todolistapi.security.AuthenticationResponse;
+import io.jsonwebtoken.JwtException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+/**
+ * Same contract as {@code AuthenticationController}.
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/auth")
+public class ReactiveAuthenticationController {
+
+    private final ReactiveAuthenticationService authenticationService;
+
+    @PostMapping("/register")
+    public Mono<ResponseEntity<AuthenticationResponse>> registerUser(@RequestBody UserDto registrationData) {
+        return authenticationService.register(registrationData)
+                .map(ResponseEntity::ok);
+    }
+
+    @PostMapping("/login")
+    public Mono<ResponseEntity<AuthenticationResponse>> loginUser(@RequestBody UserDto loginData) {
+        return authenticationService.login(loginData)
+                .map(ResponseEntity::ok)
+                .onErrorResume(AuthenticationException.class, e -> Mono.just(ResponseEntity.status(HttpStatus.UNAUTHORIZED).build()));
+    }
+
+    @PostMapping("/refresh")
+    public Mono<ResponseEntity<AuthenticationResponse>> refreshToken(@RequestBody RefreshTokenRequest refreshData) {
+        return authenticationService.refresh(refreshData.getRefreshToken())
+                .map(ResponseEntity::ok)
+                .onErrorResume(e -> e instanceof AuthenticationException || e instanceof JwtException || e instanceof IllegalArgumentException,
+                        e -> Mono.just(ResponseEntity.status(HttpStatus.UNAUTHORIZED).build()));
+    }
+
+    @PostMapping("/logout")
+    public Mono<ResponseEntity<Void>> logoutUser(@RequestHeader(value = "Authorization", required = false) String authorizationHeader,
+                                                 @RequestBody(required = false) RefreshTokenRequest logoutData) {
+        String accessToken = authorizationHeader != null && authorizationHeader.startsWith("Bearer ")
+                ? authorizationHeader.substring(7)
+                : null;
+        return authenticationService.logout(accessToken, logoutData != null ? logoutData.getRefreshToken() : null)
+                .then(Mono.just(ResponseEntity.ok().<Void>build()))
+                .onErrorResume(e -> e instanceof JwtException || e instanceof IllegalArgumentException,
+                        e -> Mono.just(ResponseEntity.status(HttpStatus.UNAUTHORIZED).build()));
+    }
+}
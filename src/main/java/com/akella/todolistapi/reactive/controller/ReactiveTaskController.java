@@ -0,0 +1,83 @@
+package com.akella.todolistapi.reactive.controller;
+
+import com.akella.todolistapi.dto.TaskDto;
+import com.akella.todolistapi.dto.TaskMapper;
+import com.akella.todolistapi.enums.TaskEventType;
+import com.akella.todolistapi.journal.TaskEvent;
+import com.akella.todolistapi.journal.TaskEventJournal;
+import com.akella.todolistapi.model.Task;
+import com.akella.todolistapi.model.User;
+import com.akella.todolistapi.reactive.repository.ReactiveTaskRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Same contract as {@code TaskController}. The authenticated {@link User} comes from the security context,
+ * so a request costs one task query on top of the user lookup in the authentication filter.
+ */
+@RestController
+@RequiredArgsConstructor
+public class ReactiveTaskController {
+
+    private final ReactiveTaskRepository taskRepository;
+    private final TaskEventJournal taskEventJournal;
+
+    @PostMapping("/tasks")
+    public Mono<ResponseEntity<TaskDto>> saveTask(@RequestBody TaskDto taskDto) {
+        return getCurrentUser()
+                .flatMap(currentUser -> {
+                    Task task = TaskMapper.toEntity(taskDto);
+                    task.setUser(currentUser);
+                    return taskRepository.insert(task);
+                })
+                .doOnNext(saved -> taskEventJournal.append(TaskEvent.of(TaskEventType.CREATED, saved.getId(), saved.getUser().getId())))
+                .map(saved -> ResponseEntity.ok(TaskMapper.toDto(saved)))
+                .onErrorResume(e -> Mono.just(ResponseEntity.badRequest().build()));
+    }
+
+    /**
+     * Collected into a list like in the servlet mode; the CBOR encoder cannot write a stream of values.
+     */
+    @GetMapping("/tasks")
+    public Mono<List<TaskDto>> getAllTasks() {
+        return getCurrentUser()
+                .flatMapMany(currentUser -> taskRepository.findByUserIdOrderByDeadlineDateTimeAsc(currentUser.getId()))
+                .map(TaskMapper::toDto)
+                .collectList();
+    }
+
+    @PatchMapping("/tasks/{id}")
+    public Mono<ResponseEntity<TaskDto>> completeTask(@PathVariable("id") Long id) {
+        return getCurrentUser()
+                .flatMap(currentUser -> taskRepository.toggleCompleted(id, currentUser.getId()))
+                .doOnNext(updated -> taskEventJournal.append(TaskEvent.of(updated.getIsCompleted() ? TaskEventType.COMPLETED : TaskEventType.REOPENED,
+                        updated.getId(), updated.getUser().getId())))
+                .map(updated -> ResponseEntity.ok(TaskMapper.toDto(updated)))
+                .defaultIfEmpty(ResponseEntity.notFound().build())
+                .onErrorResume(e -> Mono.just(ResponseEntity.badRequest().build()));
+    }
+
+    @DeleteMapping("/tasks/{id}")
+    public Mono<ResponseEntity<Void>> deleteTask(@PathVariable("id") Long id) {
+        return getCurrentUser()
+                .flatMap(currentUser -> taskRepository.deleteByIdAndUserId(id, currentUser.getId())
+                        .map(deleted -> {
+                            if (deleted == 0) {
+                                return ResponseEntity.notFound().<Void>build();
+                            }
+                            taskEventJournal.append(TaskEvent.of(TaskEventType.DELETED, id, currentUser.getId()));
+                            return ResponseEntity.ok().<Void>build();
+                        }))
+                .onErrorResume(e -> Mono.just(ResponseEntity.badRequest().build()));
+    }
+
+    private Mono<User> getCurrentUser() {
+        return ReactiveSecurityContextHolder.getContext()
+                .map(context -> (User) context.getAuthentication().getPrincipal());
+    }
+}
@@ -0,0 +1,48 @@
+package com.akella.todolistapi.reactive.repository;
+
+import com.akella.todolistapi.repository.PooledSequenceAllocator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Reactive counterpart of {@link PooledSequenceAllocator} for single inserts: every {@code nextval} value
+ * {@code hi} stands for the same block as there ({@link PooledSequenceAllocator#blockStart(long)} to
+ * {@code hi}), which is handed out from memory before the sequence is queried again.
+ */
+@Component
+@RequiredArgsConstructor
+public class ReactiveSequenceAllocator {
+
+    private final DatabaseClient databaseClient;
+    private final Map<String, Block> blocks = new ConcurrentHashMap<>();
+
+    private record Block(AtomicLong next, long end) {}
+
+    public Mono<Long> nextId(String sequence) {
+        Block block = blocks.get(sequence);
+        if (block != null) {
+            long id = block.next().getAndIncrement();
+            if (id < block.end()) {
+                return Mono.just(id);
+            }
+        }
+        return nextval(sequence)
+                .map(hi -> {
+                    long first = PooledSequenceAllocator.blockStart(hi);
+                    blocks.put(sequence, new Block(new AtomicLong(first + 1), hi + 1));
+                    return first;
+                });
+    }
+
+    Mono<Long> nextval(String sequence) {
+        return databaseClient.sql("select nextval('" + sequence + "')")
+                .map(row -> row.get(0, Long.class))
+                .one();
+    }
+}
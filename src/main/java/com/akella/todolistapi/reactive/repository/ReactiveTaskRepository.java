@@ -0,0 +1,86 @@
+package com.akella.todolistapi.reactive.repository;
+
+import com.akella.todolistapi.model.Task;
+import com.akella.todolistapi.model.User;
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+/**
+ * Task queries of the reactive mode. Rows are read into {@link Task} so the shared {@code TaskMapper} applies;
+ * {@link Task#getUser()} only carries the id.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ReactiveTaskRepository {
+
+    private static final String COLUMNS = "id, deadline_date_time, description, is_completed, user_id";
+
+    private final DatabaseClient databaseClient;
+    private final ReactiveSequenceAllocator sequenceAllocator;
+
+    public Flux<Task> findByUserIdOrderByDeadlineDateTimeAsc(long userId) {
+        return databaseClient.sql("select " + COLUMNS + " from task where user_id = :userId order by deadline_date_time")
+                .bind("userId", userId)
+                .map(ReactiveTaskRepository::toTask)
+                .all();
+    }
+
+    public Mono<Task> insert(Task task) {
+        return sequenceAllocator.nextId("task_seq")
+                .flatMap(id -> {
+                    DatabaseClient.GenericExecuteSpec insert = databaseClient.sql("""
+                                    insert into task (id, deadline_date_time, description, is_completed, user_id)
+                                    values (:id, :deadline, :description, :completed, :userId)
+                                    """)
+                            .bind("id", id)
+                            .bind("description", task.getDescription())
+                            .bind("completed", task.getIsCompleted())
+                            .bind("userId", task.getUser().getId());
+                    insert = task.getDeadlineDateTime() != null
+                            ? insert.bind("deadline", task.getDeadlineDateTime())
+                            : insert.bindNull("deadline", LocalDateTime.class);
+                    return insert.then().then(Mono.fromSupplier(() -> {
+                        task.setId(id);
+                        return task;
+                    }));
+                });
+    }
+
+    /**
+     * Flips the completion flag in a single statement.
+     *
+     * @return the updated task, empty if the user has no such task
+     */
+    public Mono<Task> toggleCompleted(long id, long userId) {
+        return databaseClient.sql("update task set is_completed = not is_completed where id = :id and user_id = :userId returning " + COLUMNS)
+                .bind("id", id)
+                .bind("userId", userId)
+                .map(ReactiveTaskRepository::toTask)
+                .one();
+    }
+
+    /**
+     * @return number of deleted tasks, 0 if the user has no such task
+     */
+    public Mono<Long> deleteByIdAndUserId(long id, long userId) {
+        return databaseClient.sql("delete from task where id = :id and user_id = :userId")
+                .bind("id", id)
+                .bind("userId", userId)
+                .fetch()
+                .rowsUpdated();
+    }
+
+    private static Task toTask(Readable row) {
+        return new Task(row.get("id", Long.class),
+                row.get("deadline_date_time", LocalDateTime.class),
+                row.get("description", String.class),
+                row.get("is_completed", Boolean.class),
+                User.builder().id(row.get("user_id", Long.class)).build());
+    }
+}
@@ -0,0 +1,88 @@
+package com.akella.todolistapi.reactive.repository;
+
+import com.akella.todolistapi.model.RevokedToken;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+
+/**
+ * {@code refresh_token} and {@code revoked_token} access of the reactive mode.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ReactiveTokenRepository {
+
+    private final DatabaseClient databaseClient;
+
+    public record StoredRefreshToken(String id, long userId, boolean revoked) {}
+
+    public Mono<Void> saveRefreshToken(String id, long userId, Instant expiresAt) {
+        return databaseClient.sql("insert into refresh_token (id, user_id, expires_at, revoked) values (:id, :userId, :expiresAt, false)")
+                .bind("id", id)
+                .bind("userId", userId)
+                .bind("expiresAt", expiresAt)
+                .then();
+    }
+
+    public Mono<StoredRefreshToken> findRefreshToken(String id) {
+        return databaseClient.sql("select id, user_id, revoked from refresh_token where id = :id")
+                .bind("id", id)
+                .map(row -> new StoredRefreshToken(row.get("id", String.class), row.get("user_id", Long.class),
+                        row.get("revoked", Boolean.class)))
+                .one();
+    }
+
+    /**
+     * @return whether this call revoked the token, false if it was already revoked or does not exist
+     */
+    public Mono<Boolean> revokeRefreshToken(String id) {
+        return databaseClient.sql("update refresh_token set revoked = true where id = :id and not revoked")
+                .bind("id", id)
+                .fetch()
+                .rowsUpdated()
+                .map(updated -> updated > 0);
+    }
+
+    public Mono<Void> revokeAllRefreshTokensByUserId(long userId) {
+        return databaseClient.sql("update refresh_token set revoked = true where user_id = :userId and not revoked")
+                .bind("userId", userId)
+                .then();
+    }
+
+    public Mono<Void> saveRevokedToken(String jti, Instant expiresAt) {
+        return databaseClient.sql("insert into revoked_token (jti, expires_at) values (:jti, :expiresAt) on conflict (jti) do nothing")
+                .bind("jti", jti)
+                .bind("expiresAt", expiresAt)
+                .then();
+    }
+
+    public Flux<RevokedToken> findRevokedTokensExpiringAfter(Instant now) {
+        return databaseClient.sql("select jti, expires_at, created_at from revoked_token where expires_at > :now")
+                .bind("now", now)
+                .map(row -> new RevokedToken(row.get("jti", String.class), row.get("expires_at", Instant.class),
+                        row.get("created_at", Instant.class)))
+                .all();
+    }
+
+    public Flux<RevokedToken> findRevokedTokensCreatedAfter(Instant createdAfter, Instant now) {
+        return databaseClient.sql("select jti, expires_at, created_at from revoked_token where created_at > :createdAfter and expires_at > :now")
+                .bind("createdAfter", createdAfter)
+                .bind("now", now)
+                .map(row -> new RevokedToken(row.get("jti", String.class), row.get("expires_at", Instant.class),
+                        row.get("created_at", Instant.class)))
+                .all();
+    }
+
+    public Mono<Void> deleteExpired(Instant now) {
+        return databaseClient.sql("delete from revoked_token where expires_at < :now")
+                .bind("now", now)
+                .then()
+                .then(databaseClient.sql("delete from refresh_token where expires_at < :now")
+                        .bind("now", now)
+                        .then());
+    }
+}
@@ -0,0 +1,60 @@
+package com.akella.todolistapi.reactive.repository;
+
+import com.akella.todolistapi.enums.Role;
+import com.akella.todolistapi.model.User;
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reads and writes {@code _user} rows as {@link User}; soft-deleted accounts are never returned.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ReactiveUserRepository {
+
+    private static final String COLUMNS = "id, email, password, role, deleted";
+
+    private final DatabaseClient databaseClient;
+    private final ReactiveSequenceAllocator sequenceAllocator;
+
+    public Mono<User> findByEmail(String email) {
+        return databaseClient.sql("select " + COLUMNS + " from _user where email = :email and not deleted")
+                .bind("email", email)
+                .map(ReactiveUserRepository::toUser)
+                .one();
+    }
+
+    public Mono<User> findById(long id) {
+        return databaseClient.sql("select " + COLUMNS + " from _user where id = :id and not deleted")
+                .bind("id", id)
+                .map(ReactiveUserRepository::toUser)
+                .one();
+    }
+
+    public Mono<User> insert(User user) {
+        return sequenceAllocator.nextId("_user_seq")
+                .flatMap(id -> databaseClient.sql("insert into _user (id, email, password, role) values (:id, :email, :password, :role)")
+                        .bind("id", id)
+                        .bind("email", user.getEmail())
+                        .bind("password", user.getPassword())
+                        .bind("role", user.getRole().name())
+                        .then()
+                        .then(Mono.fromSupplier(() -> {
+                            user.setId(id);
+                            return user;
+                        })));
+    }
+
+    private static User toUser(Readable row) {
+        return User.builder()
+                .id(row.get("id", Long.class))
+                .email(row.get("email", String.class))
+                .password(row.get("password", String.class))
+                .role(Role.valueOf(row.get("role", String.class)))
+                .deleted(row.get("deleted", Boolean.class))
+                .build();
+    }
+}
@@ -0,0 +1,56 @@
+package com.akella.todolistapi.reactive.security;
+
+import com.akella.todolistapi.security.JwtAuthenticationFilter;
+import com.akella.todolistapi.security.TokenRevocationList;
+import com.akella.todolistapi.service.JwtService;
+import io.jsonwebtoken.JwtException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.lang.NonNull;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.security.core.userdetails.ReactiveUserDetailsService;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+
+/**
+ * Port of {@link JwtAuthenticationFilter}: a valid, not revoked bearer token of an existing account puts the
+ * user into the reactive security context, anything else continues unauthenticated. Not a bean, so it only
+ * runs inside the security filter chain.
+ */
+@RequiredArgsConstructor
+public class ReactiveJwtAuthenticationFilter implements WebFilter {
+
+    private final JwtService jwtService;
+    private final ReactiveUserDetailsService userDetailsService;
+    private final TokenRevocationList tokenRevocationList;
+
+    @Override
+    @NonNull
+    public Mono<Void> filter(@NonNull ServerWebExchange exchange, @NonNull WebFilterChain chain) {
+        final String authorizationHeader = exchange.getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+        final String jwt;
+        final String email;
+        if (authorizationHeader == null || !authorizationHeader.startsWith("Bearer ")) {
+            return chain.filter(exchange);
+        }
+        jwt = authorizationHeader.substring(7);
+        try {
+            email = jwtService.extractEmail(jwt);
+            if (email == null || tokenRevocationList.isRevoked(jwtService.extractId(jwt))) {
+                return chain.filter(exchange);
+            }
+        } catch (JwtException | IllegalArgumentException e) {
+            return chain.filter(exchange);
+        }
+        return userDetailsService.findByUsername(email)
+                .filter(userDetails -> jwtService.isValid(jwt, userDetails))
+                .map(userDetails -> ReactiveSecurityContextHolder.withAuthentication(
+                        new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities())))
+                .defaultIfEmpty(Context.empty())
+                .flatMap(context -> chain.filter(exchange).contextWrite(context));
+    }
+}
@@ -0,0 +1,100 @@
+package com.akella.todolistapi.reactive.service;
+
+import com.akella.todolistapi.dto.UserDto;
+import com.akella.todolistapi.enums.Role;
+import com.akella.todolistapi.model.User;
+import com.akella.todolistapi.reactive.repository.ReactiveTokenRepository;
+import com.akella.todolistapi.reactive.repository.ReactiveUserRepository;
+import com.akella.todolistapi.security.AuthenticationResponse;
+import com.akella.todolistapi.service.AuthenticationService;
+import com.akella.todolistapi.service.JwtService;
+import io.jsonwebtoken.JwtException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.ReactiveAuthenticationManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Instant;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Reactive counterpart of {@link AuthenticationService} with the same token rotation rules.
+ */
+@Service
+@RequiredArgsConstructor
+public class ReactiveAuthenticationService {
+
+    private final ReactiveUserRepository userRepository;
+    private final ReactiveTokenRepository tokenRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final JwtService jwtService;
+    private final ReactiveTokenRevocationService tokenRevocationService;
+    private final ReactiveAuthenticationManager authenticationManager;
+
+    public Mono<AuthenticationResponse> register(UserDto registrationData) {
+        return Mono.fromCallable(() -> passwordEncoder.encode(registrationData.getPassword()))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(encodedPassword -> userRepository.insert(User.builder()
+                        .email(registrationData.getEmail())
+                        .password(encodedPassword)
+                        .role(Role.USER)
+                        .build()))
+                .flatMap(this::issueTokens);
+    }
+
+    public Mono<AuthenticationResponse> login(UserDto loginData) {
+        return authenticationManager.authenticate(new UsernamePasswordAuthenticationToken(loginData.getEmail(),
+                        loginData.getPassword()))
+                .map(authentication -> (User) authentication.getPrincipal())
+                .flatMap(this::issueTokens);
+    }
+
+    /**
+     * Every refresh token can be used once; presenting an already rotated one revokes all refresh tokens of
+     * the user. The rotation itself is a single conditional update, so concurrent refreshes cannot both win.
+     */
+    public Mono<AuthenticationResponse> refresh(String refreshToken) {
+        return Mono.fromCallable(() -> jwtService.parseRefreshToken(refreshToken))
+                .flatMap(claims -> tokenRepository.findRefreshToken(claims.getId()))
+                .switchIfEmpty(Mono.error(() -> new BadCredentialsException("Unknown refresh token")))
+                .flatMap(stored -> tokenRepository.revokeRefreshToken(stored.id())
+                        .flatMap(rotated -> rotated
+                                ? userRepository.findById(stored.userId())
+                                : tokenRepository.revokeAllRefreshTokensByUserId(stored.userId())
+                                        .then(Mono.<User>error(new BadCredentialsException("Refresh token reuse detected")))))
+                .switchIfEmpty(Mono.error(() -> new BadCredentialsException("User not found")))
+                .flatMap(this::issueTokens);
+    }
+
+    public Mono<Void> logout(String accessToken, String refreshToken) {
+        Mono<Void> revokeRefreshToken = refreshToken == null
+                ? Mono.empty()
+                : Mono.fromCallable(() -> jwtService.parseRefreshToken(refreshToken))
+                        .flatMap(claims -> tokenRepository.revokeRefreshToken(claims.getId()))
+                        .then();
+        // An expired or invalid access token is not accepted anymore, there is nothing left to revoke
+        Mono<Void> revokeAccessToken = accessToken == null
+                ? Mono.empty()
+                : Mono.fromCallable(() -> jwtService.extractClaim(accessToken, Function.identity()))
+                        .onErrorResume(e -> e instanceof JwtException || e instanceof IllegalArgumentException,
+                                e -> Mono.empty())
+                        .flatMap(claims -> tokenRevocationService.revokeAccessToken(claims.getId(),
+                                claims.getExpiration().toInstant()));
+        return revokeRefreshToken.then(revokeAccessToken);
+    }
+
+    private Mono<AuthenticationResponse> issueTokens(User user) {
+        String refreshTokenId = UUID.randomUUID().toString();
+        return tokenRepository.saveRefreshToken(refreshTokenId, user.getId(),
+                        Instant.now().plusMillis(jwtService.getRefreshExpirationTime()))
+                .then(Mono.fromSupplier(() -> AuthenticationResponse.builder()
+                        .token(jwtService.generateToken(user))
+                        .refreshToken(jwtService.generateRefreshToken(user, refreshTokenId))
+                        .build()));
+    }
+}
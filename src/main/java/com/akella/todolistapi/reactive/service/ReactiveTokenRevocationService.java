@@ -0,0 +1,78 @@
+package com.akella.todolistapi.reactive.service;
+
+import com.akella.todolistapi.model.RevokedToken;
+import com.akella.todolistapi.reactive.repository.ReactiveTokenRepository;
+import com.akella.todolistapi.security.TokenRevocationList;
+import com.akella.todolistapi.service.TokenRevocationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * Reactive counterpart of {@link TokenRevocationService}, with the same cross-instance synchronization. Startup
+ * and the scheduled synchronization run on their own threads and may block; request-time revocations do not.
+ */
+@Slf4j
+@Service
+@Lazy(false)
+@RequiredArgsConstructor
+public class ReactiveTokenRevocationService {
+
+    private final ReactiveTokenRepository tokenRepository;
+    private final TokenRevocationList tokenRevocationList;
+
+    private volatile Instant watermark = Instant.EPOCH;
+
+    /**
+     * Runs before the readiness state switches to accepting traffic.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadRevokedTokens() {
+        List<RevokedToken> revoked = tokenRepository.findRevokedTokensExpiringAfter(Instant.now())
+                .collectList()
+                .block();
+        tokenRevocationList.reset(revoked.stream()
+                .collect(Collectors.toMap(RevokedToken::getJti, RevokedToken::getExpiresAt)));
+        watermark = latestCreatedAt(revoked, watermark);
+        log.info("Loaded {} revoked access tokens", revoked.size());
+    }
+
+    public Mono<Void> revokeAccessToken(String jti, Instant expiresAt) {
+        if (jti == null || !expiresAt.isAfter(Instant.now())) {
+            return Mono.empty();
+        }
+        return tokenRepository.saveRevokedToken(jti, expiresAt)
+                .doOnSuccess(saved -> tokenRevocationList.revoke(jti, expiresAt));
+    }
+
+    @Scheduled(fixedDelay = TokenRevocationService.SYNC_INTERVAL_MILLIS)
+    public void synchronize() {
+        Instant now = Instant.now();
+        List<RevokedToken> revoked = tokenRepository.findRevokedTokensCreatedAfter(
+                        watermark.minus(TokenRevocationService.SYNC_OVERLAP), now)
+                .collectList()
+                .block();
+        revoked.forEach(token -> tokenRevocationList.revoke(token.getJti(), token.getExpiresAt()));
+        watermark = latestCreatedAt(revoked, watermark);
+
+        tokenRepository.deleteExpired(now).block();
+        tokenRevocationList.purgeExpired();
+    }
+
+    private static Instant latestCreatedAt(List<RevokedToken> tokens, Instant current) {
+        return tokens.stream()
+                .map(RevokedToken::getCreatedAt)
+                .filter(Objects::nonNull)
+                .reduce(current, (a, b) -> a.isAfter(b) ? a : b);
+    }
+}
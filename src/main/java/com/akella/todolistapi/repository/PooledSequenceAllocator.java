@@ -0,0 +1,47 @@
+package com.akella.todolistapi.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Reserves ids for bulk JDBC inserts from the entity sequences without clashing with Hibernate.
+ * <p>
+ * Every {@code nextval} value {@code hi} stands for the block {@code [hi - 49, hi]}, exactly like
+ * Hibernate's pooled optimizer, so ids handed out here and by {@code @GeneratedValue} never overlap. The first
+ * value of a fresh sequence ({@code 1}) is a block of its own.
+ */
+@Component
+@RequiredArgsConstructor
+public class PooledSequenceAllocator {
+
+    /** Matches the allocationSize Hibernate uses for the entity sequences (see V1__init_schema.sql). */
+    public static final int SEQUENCE_INCREMENT = 50;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public long[] allocate(String sequence, int count) {
+        long[] ids = new long[count];
+        int filled = 0;
+        while (filled < count) {
+            int blocks = (count - filled + SEQUENCE_INCREMENT - 1) / SEQUENCE_INCREMENT;
+            List<Long> hiValues = jdbcTemplate.queryForList(
+                    "select nextval('" + sequence + "') from generate_series(1, ?)", Long.class, blocks);
+            for (long hi : hiValues) {
+                for (long id = blockStart(hi); id <= hi && filled < count; id++) {
+                    ids[filled++] = id;
+                }
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * @return the first id of the block that ends at {@code hi}, a value returned by {@code nextval}
+     */
+    public static long blockStart(long hi) {
+        return Math.max(hi - SEQUENCE_INCREMENT + 1, 1);
+    }
+}
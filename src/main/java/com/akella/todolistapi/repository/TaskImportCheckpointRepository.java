@@ -0,0 +1,39 @@
+package com.akella.todolistapi.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+@RequiredArgsConstructor
+public class TaskImportCheckpointRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public record Checkpoint(long fileOffset, long rowsImported) {}
+
+    public Optional<Checkpoint> findBySource(String source) {
+        List<Checkpoint> checkpoints = jdbcTemplate.query(
+                "select file_offset, rows_imported from task_import_checkpoint where source = ?",
+                (rs, rowNum) -> new Checkpoint(rs.getLong("file_offset"), rs.getLong("rows_imported")),
+                source);
+        return checkpoints.stream().findFirst();
+    }
+
+    public void save(String source, Checkpoint checkpoint) {
+        jdbcTemplate.update("""
+                        insert into task_import_checkpoint (source, file_offset, rows_imported, updated_at)
+                        values (?, ?, ?, now())
+                        on conflict (source) do update
+                        set file_offset = excluded.file_offset, rows_imported = excluded.rows_imported, updated_at = now()
+                        """,
+                source, checkpoint.fileOffset(), checkpoint.rowsImported());
+    }
+
+    public void deleteBySource(String source) {
+        jdbcTemplate.update("delete from task_import_checkpoint where source = ?", source);
+    }
+}
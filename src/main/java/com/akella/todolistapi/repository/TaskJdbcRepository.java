@@ -0,0 +1,109 @@
+package com.akella.todolistapi.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Bulk task writes that bypass the persistence context. Used by the import and dataset shell commands and
+ * the account purge, where writing millions of rows through {@link TaskRepository} is not an option.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TaskJdbcRepository {
+
+    private static final String INSERT_SQL =
+            "insert into task (id, deadline_date_time, description, is_completed, user_id) values (?, ?, ?, ?, ?)";
+    private static final String COPY_SQL =
+            "copy task (id, deadline_date_time, description, is_completed, user_id) from stdin with (format csv)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PooledSequenceAllocator sequenceAllocator;
+
+    public record Row(long userId, String description, LocalDateTime deadlineDateTime, boolean completed) {}
+
+    /**
+     * Inserts the rows with Postgres {@code COPY} when the connection supports it and a JDBC batch otherwise.
+     * Joins the surrounding transaction, if any.
+     */
+    public void insertBatch(List<Row> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        long[] ids = sequenceAllocator.allocate("task_seq", rows.size());
+        Boolean copied = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+            if (!connection.isWrapperFor(PGConnection.class)) {
+                return false;
+            }
+            CopyManager copyManager = connection.unwrap(PGConnection.class).getCopyAPI();
+            try {
+                copyManager.copyIn(COPY_SQL, new StringReader(toCsv(ids, rows)));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return true;
+        });
+        if (!Boolean.TRUE.equals(copied)) {
+            jdbcTemplate.batchUpdate(INSERT_SQL, new BatchPreparedStatementSetter() {
+                @Override
+                public void setValues(PreparedStatement ps, int i) throws SQLException {
+                    Row row = rows.get(i);
+                    ps.setLong(1, ids[i]);
+                    if (row.deadlineDateTime() != null) {
+                        ps.setTimestamp(2, Timestamp.valueOf(row.deadlineDateTime()));
+                    } else {
+                        ps.setNull(2, Types.TIMESTAMP);
+                    }
+                    ps.setString(3, row.description());
+                    ps.setBoolean(4, row.completed());
+                    ps.setLong(5, row.userId());
+                }
+
+                @Override
+                public int getBatchSize() {
+                    return rows.size();
+                }
+            });
+        }
+    }
+
+    /**
+     * Deletes up to {@code limit} tasks of the user, walking the {@code (user_id, deadline_date_time)} index.
+     * Joins the surrounding transaction, if any.
+     *
+     * @return number of deleted tasks, less than {@code limit} once the user has none left
+     */
+    public int deleteChunkByUser(long userId, int limit) {
+        return jdbcTemplate.update("delete from task where id in (select id from task where user_id = ? limit ?)",
+                userId, limit);
+    }
+
+    private static String toCsv(long[] ids, List<Row> rows) {
+        StringBuilder csv = new StringBuilder(rows.size() * 64);
+        for (int i = 0; i < rows.size(); i++) {
+            Row row = rows.get(i);
+            csv.append(ids[i]).append(',');
+            if (row.deadlineDateTime() != null) {
+                csv.append(row.deadlineDateTime());
+            }
+            csv.append(",\"").append(row.description().replace("\"", "\"\"")).append("\",")
+                    .append(row.completed()).append(',')
+                    .append(row.userId()).append('\n');
+        }
+        return csv.toString();
+    }
+}
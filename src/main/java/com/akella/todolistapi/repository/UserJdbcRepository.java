@@ -0,0 +1,63 @@
+package com.akella.todolistapi.repository;
+
+import com.akella.todolistapi.enums.Role;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Bulk user writes for the dataset shell command and the account purge, see {@link TaskJdbcRepository}.
+ */
+@Repository
+@RequiredArgsConstructor
+public class UserJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PooledSequenceAllocator sequenceAllocator;
+
+    /**
+     * @return the generated ids, in the order of {@code emails}
+     */
+    public long[] insertBatch(List<String> emails, String encodedPassword, Role role) {
+        long[] ids = sequenceAllocator.allocate("_user_seq", emails.size());
+        jdbcTemplate.batchUpdate("insert into _user (id, email, password, role) values (?, ?, ?, ?)",
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        ps.setLong(1, ids[i]);
+                        ps.setString(2, emails.get(i));
+                        ps.setString(3, encodedPassword);
+                        ps.setString(4, role.name());
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return emails.size();
+                    }
+                });
+        return ids;
+    }
+
+    /**
+     * Flags the account as deleted without writing any other column, so concurrent changes are not overwritten.
+     *
+     * @return whether a row was updated
+     */
+    public boolean markDeleted(long id) {
+        return jdbcTemplate.update("update _user set deleted = true where id = ?", id) > 0;
+    }
+
+    /**
+     * Removes the user row of a soft-deleted account. Fails while the user still owns tasks.
+     *
+     * @return whether a row was deleted
+     */
+    public boolean deleteSoftDeleted(long id) {
+        return jdbcTemplate.update("delete from _user where id = ? and deleted", id) > 0;
+    }
+}
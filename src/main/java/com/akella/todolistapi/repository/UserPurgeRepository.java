@@ -0,0 +1,104 @@
+package com.akella.todolistapi.repository;
+
+import com.akella.todolistapi.enums.PurgeStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+@RequiredArgsConstructor
+public class UserPurgeRepository {
+
+    private static final String COLUMNS = "user_id, status, tasks_deleted, requested_at, updated_at, completed_at";
+    private static final RowMapper<Purge> ROW_MAPPER = (rs, rowNum) -> new Purge(
+            rs.getLong("user_id"),
+            PurgeStatus.valueOf(rs.getString("status")),
+            rs.getLong("tasks_deleted"),
+            rs.getTimestamp("requested_at").toInstant(),
+            rs.getTimestamp("updated_at").toInstant(),
+            Optional.ofNullable(rs.getTimestamp("completed_at")).map(Timestamp::toInstant).orElse(null));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public record Purge(long userId, PurgeStatus status, long tasksDeleted, Instant requestedAt, Instant updatedAt,
+                        Instant completedAt) {}
+
+    /**
+     * Registers a pending purge; requesting it again for the same user is a no-op.
+     */
+    public void createPending(long userId) {
+        jdbcTemplate.update("""
+                        insert into user_purge (user_id, status, requested_at, updated_at)
+                        values (?, 'PENDING', now(), now())
+                        on conflict (user_id) do nothing
+                        """,
+                userId);
+    }
+
+    /**
+     * Claims the oldest pending purge that no other instance holds a live lease on. Rows locked by a concurrent
+     * claim are skipped rather than waited for, so instances never claim the same purge.
+     *
+     * @return the claimed user id, empty if nothing is claimable
+     */
+    public Optional<Long> claimNext(String owner, Duration lease) {
+        return jdbcTemplate.query("""
+                        update user_purge
+                        set claimed_by = ?, claimed_until = now() + make_interval(secs => ?), updated_at = now()
+                        where user_id = (select user_id
+                                         from user_purge
+                                         where status = 'PENDING' and (claimed_until is null or claimed_until < now())
+                                         order by requested_at
+                                         limit 1
+                                         for update skip locked)
+                        returning user_id
+                        """,
+                (rs, rowNum) -> rs.getLong("user_id"), owner, lease.toSeconds()).stream().findFirst();
+    }
+
+    public List<Purge> findRecent(int limit) {
+        return jdbcTemplate.query("select " + COLUMNS + " from user_purge order by requested_at desc limit ?",
+                ROW_MAPPER, limit);
+    }
+
+    /**
+     * Adds a deleted chunk to the progress and renews the lease.
+     *
+     * @return whether {@code owner} still holds the claim; if not, the caller must roll back
+     */
+    public boolean addProgress(long userId, String owner, int tasksDeleted, Duration lease) {
+        return jdbcTemplate.update("""
+                        update user_purge
+                        set tasks_deleted = tasks_deleted + ?, claimed_until = now() + make_interval(secs => ?), updated_at = now()
+                        where user_id = ? and claimed_by = ? and status = 'PENDING'
+                        """,
+                tasksDeleted, lease.toSeconds(), userId, owner) > 0;
+    }
+
+    /**
+     * @return whether {@code owner} still held the claim; if not, the caller must roll back
+     */
+    public boolean markCompleted(long userId, String owner) {
+        return jdbcTemplate.update("""
+                        update user_purge
+                        set status = 'COMPLETED', claimed_by = null, claimed_until = null, updated_at = now(), completed_at = now()
+                        where user_id = ? and claimed_by = ? and status = 'PENDING'
+                        """,
+                userId, owner) > 0;
+    }
+
+    /**
+     * Gives up a claim so the purge is retried on the next run instead of after the lease has run out.
+     */
+    public void release(long userId, String owner) {
+        jdbcTemplate.update("update user_purge set claimed_by = null, claimed_until = null where user_id = ? and claimed_by = ?",
+                userId, owner);
+    }
+}
@@ -0,0 +1,129 @@
+package com.akella.todolistapi.security;
+
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * In-memory set of revoked access token ids ({@code jti}), checked on every authenticated request.
+ * <p>
+ * A Bloom filter answers the common "never revoked" case without touching the exact set; only possible
+ * hits are confirmed against the map of jti to token expiry. Entries are dropped once the token would
+ * have expired anyway, and the filter is rebuilt at that point because Bloom filters cannot remove.
+ * Lookups are lock-free; revocations and rebuilds are rare and serialized.
+ */
+@Component
+public class TokenRevocationList {
+
+    private static final int MIN_CAPACITY = 1 << 14;
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    private final Map<String, Instant> revoked = new ConcurrentHashMap<>();
+    private volatile BloomFilter filter = new BloomFilter(MIN_CAPACITY);
+
+    public boolean isRevoked(String jti) {
+        if (jti == null || !filter.mightContain(jti)) {
+            return false;
+        }
+        Instant expiresAt = revoked.get(jti);
+        return expiresAt != null && expiresAt.isAfter(Instant.now());
+    }
+
+    public synchronized void revoke(String jti, Instant expiresAt) {
+        revoked.put(jti, expiresAt);
+        if (revoked.size() > filter.capacity) {
+            rebuild();
+        } else {
+            filter.add(jti);
+        }
+    }
+
+    /**
+     * Replaces the whole content, used to rebuild the list from the database on startup.
+     */
+    public synchronized void reset(Map<String, Instant> entries) {
+        revoked.clear();
+        revoked.putAll(entries);
+        rebuild();
+    }
+
+    /**
+     * @return number of entries removed
+     */
+    public synchronized int purgeExpired() {
+        Instant now = Instant.now();
+        int before = revoked.size();
+        revoked.values().removeIf(expiresAt -> !expiresAt.isAfter(now));
+        int removed = before - revoked.size();
+        if (removed > 0) {
+            rebuild();
+        }
+        return removed;
+    }
+
+    public int size() {
+        return revoked.size();
+    }
+
+    private void rebuild() {
+        BloomFilter rebuilt = new BloomFilter(Math.max(MIN_CAPACITY, revoked.size() * 2));
+        revoked.keySet().forEach(rebuilt::add);
+        filter = rebuilt;
+    }
+
+    private static final class BloomFilter {
+
+        private final int capacity;
+        private final int bits;
+        private final int hashes;
+        private final AtomicLongArray words;
+
+        private BloomFilter(int capacity) {
+            this.capacity = capacity;
+            this.bits = (int) Math.ceil(-capacity * Math.log(FALSE_POSITIVE_RATE) / (Math.log(2) * Math.log(2)));
+            this.hashes = Math.max(1, (int) Math.round((double) bits / capacity * Math.log(2)));
+            this.words = new AtomicLongArray((bits + 63) / 64);
+        }
+
+        private void add(String value) {
+            long hash1 = hash(value);
+            long hash2 = mix(hash1);
+            for (int i = 0; i < hashes; i++) {
+                int bit = (int) Long.remainderUnsigned(hash1 + i * hash2, bits);
+                words.getAndUpdate(bit >>> 6, word -> word | (1L << bit));
+            }
+        }
+
+        private boolean mightContain(String value) {
+            long hash1 = hash(value);
+            long hash2 = mix(hash1);
+            for (int i = 0; i < hashes; i++) {
+                int bit = (int) Long.remainderUnsigned(hash1 + i * hash2, bits);
+                if ((words.get(bit >>> 6) & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        // 64-bit FNV-1a
+        private static long hash(String value) {
+            long hash = 0xcbf29ce484222325L;
+            for (int i = 0; i < value.length(); i++) {
+                hash ^= value.charAt(i);
+                hash *= 0x100000001b3L;
+            }
+            return hash;
+        }
+
+        // SplitMix64 finalizer, gives the second, independent hash for double hashing
+        private static long mix(long value) {
+            value = (value ^ (value >>> 30)) * 0xbf58476d1ce4e5b9L;
+            value = (value ^ (value >>> 27)) * 0x94d049bb133111ebL;
+            return (value ^ (value >>> 31)) | 1;
+        }
+    }
+}
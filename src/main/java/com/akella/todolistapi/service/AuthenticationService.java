@@ -2,23 +2,34 @@ package com.akella.todolistapi.service;
 
 import com.akella.todolistapi.dto.UserDto;
 import com.akella.todolistapi.enums.Role;
+import com.akella.todolistapi.model.RefreshToken;
 import com.akella.todolistapi.model.User;
+import com.akella.todolistapi.repository.RefreshTokenRepository;
 import com.akella.todolistapi.repository.UserRepository;
 import com.akella.todolistapi.security.AuthenticationResponse;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
 public class AuthenticationService {
 
     private final UserRepository userRepository;
+    private final RefreshTokenRepository refreshTokenRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtService jwtService;
+    private final TokenRevocationService tokenRevocationService;
     private final AuthenticationManager authenticationManager;
 
     public AuthenticationResponse register(UserDto registrationData) {
@@ -28,19 +39,67 @@ public class AuthenticationService {
                 .role(Role.USER)
                 .build();
         userRepository.save(user);
-        String token = jwtService.generateToken(user);
-        return AuthenticationResponse.builder()
-                .token(token)
-                .build();
+        return issueTokens(user);
     }
 
     public AuthenticationResponse login(UserDto loginData) {
         authenticationManager.authenticate(new UsernamePasswordAuthenticationToken(loginData.getEmail(),
                 loginData.getPassword()));
         User user = userRepository.findByEmail(loginData.getEmail()).orElseThrow(() -> new UsernameNotFoundException("User not found"));
-        String token = jwtService.generateToken(user);
+        return issueTokens(user);
+    }
+
+    /**
+     * Exchanges a refresh token for a new access and refresh token pair. Every refresh token can be used once;
+     * presenting an already rotated one revokes all refresh tokens of the user. The rotation is a conditional
+     * update, so concurrent requests with the same token cannot both succeed.
+     */
+    @Transactional(noRollbackFor = BadCredentialsException.class)
+    public AuthenticationResponse refresh(String refreshToken) {
+        Claims claims = jwtService.parseRefreshToken(refreshToken);
+        RefreshToken stored = refreshTokenRepository.findById(claims.getId())
+                .orElseThrow(() -> new BadCredentialsException("Unknown refresh token"));
+        if (refreshTokenRepository.revokeIfActive(stored.getId()) != 1) {
+            refreshTokenRepository.revokeAllByUser(stored.getUser());
+            throw new BadCredentialsException("Refresh token reuse detected");
+        }
+        return issueTokens(stored.getUser());
+    }
+
+    /**
+     * Revokes the refresh token and, if it is still valid, the access token. An expired or invalid access token
+     * is not accepted anymore anyway and does not stop the refresh token from being revoked.
+     *
+     * @throws io.jsonwebtoken.JwtException if the refresh token is invalid
+     */
+    @Transactional
+    public void logout(String accessToken, String refreshToken) {
+        if (refreshToken != null) {
+            refreshTokenRepository.revokeIfActive(jwtService.parseRefreshToken(refreshToken).getId());
+        }
+        if (accessToken != null) {
+            String jti;
+            Instant expiresAt;
+            try {
+                jti = jwtService.extractId(accessToken);
+                expiresAt = jwtService.extractExpiration(accessToken).toInstant();
+            } catch (JwtException | IllegalArgumentException e) {
+                return;
+            }
+            tokenRevocationService.revokeAccessToken(jti, expiresAt);
+        }
+    }
+
+    private AuthenticationResponse issueTokens(User user) {
+        String refreshTokenId = UUID.randomUUID().toString();
+        refreshTokenRepository.save(RefreshToken.builder()
+                .id(refreshTokenId)
+                .user(user)
+                .expiresAt(Instant.now().plusMillis(jwtService.getRefreshExpirationTime()))
+                .build());
         return AuthenticationResponse.builder()
-                .token(token)
+                .token(jwtService.generateToken(user))
+                .refreshToken(jwtService.generateRefreshToken(user, refreshTokenId))
                 .build();
     }
 }
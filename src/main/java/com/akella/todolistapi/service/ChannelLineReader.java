@@ -0,0 +1,88 @@
+package com.akella.todolistapi.service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Reads UTF-8 lines from a file channel through a fixed-size buffer and keeps track of the byte offset
+ * after the last returned line, so a reader can be reopened exactly where a previous one stopped.
+ */
+class ChannelLineReader implements Closeable {
+
+    private static final int BUFFER_SIZE = 1 << 20;
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer;
+    private final ByteArrayOutputStream line = new ByteArrayOutputStream(256);
+    private long position;
+
+    ChannelLineReader(Path path, long offset) throws IOException {
+        this(path, offset, BUFFER_SIZE);
+    }
+
+    ChannelLineReader(Path path, long offset, int bufferSize) throws IOException {
+        this.buffer = ByteBuffer.allocate(bufferSize);
+        this.channel = FileChannel.open(path, StandardOpenOption.READ);
+        this.channel.position(offset);
+        this.position = offset;
+        this.buffer.flip();
+    }
+
+    /**
+     * @return the next line without its terminator, or {@code null} at end of file
+     */
+    String readLine() throws IOException {
+        line.reset();
+        while (true) {
+            if (!buffer.hasRemaining()) {
+                buffer.clear();
+                int read = channel.read(buffer);
+                buffer.flip();
+                if (read <= 0) {
+                    return line.size() > 0 ? currentLine() : null;
+                }
+            }
+            byte[] array = buffer.array();
+            int start = buffer.position();
+            int end = buffer.limit();
+            for (int i = start; i < end; i++) {
+                if (array[i] == '\n') {
+                    line.write(array, start, i - start);
+                    buffer.position(i + 1);
+                    position += i + 1 - start;
+                    return currentLine();
+                }
+            }
+            line.write(array, start, end - start);
+            buffer.position(end);
+            position += end - start;
+        }
+    }
+
+    /**
+     * @return byte offset just past the last line returned by {@link #readLine()}
+     */
+    long position() {
+        return position;
+    }
+
+    long size() throws IOException {
+        return channel.size();
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private String currentLine() {
+        String value = line.toString(StandardCharsets.UTF_8);
+        return value.endsWith("\r") ? value.substring(0, value.length() - 1) : value;
+    }
+}
@@ -0,0 +1,188 @@
+package com.akella.todolistapi.service;
+
+import com.akella.todolistapi.enums.Role;
+import com.akella.todolistapi.repository.TaskJdbcRepository;
+import com.akella.todolistapi.repository.UserJdbcRepository;
+import lombok.Builder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Generates a reproducible synthetic dataset for capacity testing.
+ * <p>
+ * Users are split into fixed-size chunks and every chunk draws from its own random stream derived from
+ * the seed and the chunk index, so the same spec always produces the same users and tasks no matter
+ * how many threads run the chunks or in which order they finish.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DatasetGeneratorService {
+
+    public static final String DEFAULT_PASSWORD = "password";
+
+    private static final int USERS_PER_CHUNK = 1_000;
+    private static final int DESCRIPTION_COLUMN_LENGTH = 255;
+    private static final long DEADLINE_PAST_MINUTES = 30L * 24 * 60;
+    private static final long DEADLINE_FUTURE_MINUTES = 180L * 24 * 60;
+    private static final String[] WORDS = {
+            "review", "update", "call", "prepare", "send", "fix", "plan", "write", "check", "book",
+            "report", "invoice", "meeting", "release", "draft", "budget", "slides", "client", "team", "backlog",
+            "groceries", "dentist", "tickets", "contract", "notes", "deploy", "design", "follow", "up", "weekly"
+    };
+
+    private final UserJdbcRepository userJdbcRepository;
+    private final TaskJdbcRepository taskJdbcRepository;
+    private final PasswordEncoder passwordEncoder;
+
+    @Builder
+    public record DatasetSpec(int users,
+                              int maxTasksPerUser,
+                              double skew,
+                              long seed,
+                              double nullDeadlineRatio,
+                              double completedRatio,
+                              int minDescriptionLength,
+                              int maxDescriptionLength,
+                              LocalDateTime deadlineAnchor,
+                              int batchSize,
+                              int threads) {
+
+        public DatasetSpec {
+            if (users < 1) {
+                throw new IllegalArgumentException("users must be positive");
+            }
+            if (maxTasksPerUser < 1) {
+                throw new IllegalArgumentException("maxTasksPerUser must be positive");
+            }
+            if (!(skew >= 0) || Double.isInfinite(skew)) {
+                throw new IllegalArgumentException("skew must be a non-negative number");
+            }
+            if (!isRatio(nullDeadlineRatio) || !isRatio(completedRatio)) {
+                throw new IllegalArgumentException("nullDeadlineRatio and completedRatio must be between 0 and 1");
+            }
+            if (minDescriptionLength < 1 || maxDescriptionLength < minDescriptionLength) {
+                throw new IllegalArgumentException("Invalid description length range");
+            }
+            if (deadlineAnchor == null) {
+                throw new IllegalArgumentException("deadlineAnchor is required");
+            }
+            if (batchSize < 1) {
+                throw new IllegalArgumentException("batchSize must be positive");
+            }
+            if (threads < 0) {
+                throw new IllegalArgumentException("threads must be 0 (one per core) or positive");
+            }
+        }
+
+        private static boolean isRatio(double value) {
+            return value >= 0 && value <= 1;
+        }
+    }
+
+    public record DatasetResult(long users, long tasks, long elapsedMillis) {
+
+        public long rowsPerSecond() {
+            return elapsedMillis > 0 ? (users + tasks) * 1000 / elapsedMillis : users + tasks;
+        }
+    }
+
+    public DatasetResult generate(DatasetSpec spec) throws InterruptedException, ExecutionException {
+        ZipfDistribution tasksPerUser = new ZipfDistribution(spec.maxTasksPerUser(), spec.skew());
+        String encodedPassword = passwordEncoder.encode(DEFAULT_PASSWORD);
+        int chunks = (spec.users() + USERS_PER_CHUNK - 1) / USERS_PER_CHUNK;
+        int threads = spec.threads() > 0 ? spec.threads() : Runtime.getRuntime().availableProcessors();
+
+        AtomicLong usersCreated = new AtomicLong();
+        AtomicLong tasksCreated = new AtomicLong();
+        long startedAt = System.currentTimeMillis();
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>(chunks);
+            for (int chunk = 0; chunk < chunks; chunk++) {
+                int chunkIndex = chunk;
+                futures.add(executor.submit(() -> {
+                    generateChunk(spec, chunkIndex, tasksPerUser, encodedPassword, usersCreated, tasksCreated);
+                    long elapsed = Math.max(System.currentTimeMillis() - startedAt, 1);
+                    log.info("Generated {} users and {} tasks, {} rows/s", usersCreated.get(), tasksCreated.get(),
+                            (usersCreated.get() + tasksCreated.get()) * 1000 / elapsed);
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        return new DatasetResult(usersCreated.get(), tasksCreated.get(), System.currentTimeMillis() - startedAt);
+    }
+
+    private void generateChunk(DatasetSpec spec,
+                               int chunkIndex,
+                               ZipfDistribution tasksPerUser,
+                               String encodedPassword,
+                               AtomicLong usersCreated,
+                               AtomicLong tasksCreated) {
+        SplittableRandom random = new SplittableRandom(spec.seed() * 0x9E3779B97F4A7C15L + chunkIndex);
+        int firstUser = chunkIndex * USERS_PER_CHUNK;
+        int lastUser = Math.min(firstUser + USERS_PER_CHUNK, spec.users());
+
+        List<String> emails = new ArrayList<>(lastUser - firstUser);
+        for (int user = firstUser; user < lastUser; user++) {
+            emails.add("user" + user + "@seed" + spec.seed() + ".example.com");
+        }
+        long[] userIds = userJdbcRepository.insertBatch(emails, encodedPassword, Role.USER);
+        usersCreated.addAndGet(userIds.length);
+
+        List<TaskJdbcRepository.Row> batch = new ArrayList<>(spec.batchSize());
+        for (long userId : userIds) {
+            int tasks = tasksPerUser.sample(random);
+            for (int i = 0; i < tasks; i++) {
+                batch.add(new TaskJdbcRepository.Row(userId, description(spec, random), deadline(spec, random),
+                        random.nextDouble() < spec.completedRatio()));
+                if (batch.size() >= spec.batchSize()) {
+                    taskJdbcRepository.insertBatch(batch);
+                    tasksCreated.addAndGet(batch.size());
+                    batch.clear();
+                }
+            }
+        }
+        taskJdbcRepository.insertBatch(batch);
+        tasksCreated.addAndGet(batch.size());
+    }
+
+    private static LocalDateTime deadline(DatasetSpec spec, SplittableRandom random) {
+        if (random.nextDouble() < spec.nullDeadlineRatio()) {
+            return null;
+        }
+        return spec.deadlineAnchor().plusMinutes(random.nextLong(-DEADLINE_PAST_MINUTES, DEADLINE_FUTURE_MINUTES));
+    }
+
+    private static String description(DatasetSpec spec, SplittableRandom random) {
+        int maxLength = Math.min(spec.maxDescriptionLength(), DESCRIPTION_COLUMN_LENGTH);
+        int minLength = Math.min(spec.minDescriptionLength(), maxLength);
+        int length = random.nextInt(minLength, maxLength + 1);
+        StringBuilder description = new StringBuilder(length + 16);
+        while (description.length() < length) {
+            if (!description.isEmpty()) {
+                description.append(' ');
+            }
+            description.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        description.setLength(length);
+        return description.toString();
+    }
+}
@@ -2,8 +2,10 @@ package com.akella.todolistapi.service;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import lombok.Getter;
 import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -13,6 +15,7 @@ import javax.crypto.SecretKey;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.UUID;
 import java.util.function.Function;
 
 @Service
@@ -20,43 +23,79 @@ import java.util.function.Function;
 @ConfigurationProperties(prefix = "todolist.api")
 public class JwtService {
 
+    public static final String TOKEN_TYPE_CLAIM = "type";
+    public static final String ACCESS_TOKEN_TYPE = "access";
+    public static final String REFRESH_TOKEN_TYPE = "refresh";
+
     private String secret;
     private long expirationTime;
+    @Getter
+    private long refreshExpirationTime;
 
     public String generateToken(UserDetails userDetails) {
         return generateToken(new HashMap<>(), userDetails);
     }
 
     public String generateToken(Map<String, Object> extraClaims, UserDetails userDetails) {
-        return Jwts.builder()
-                .claims(extraClaims)
-                .subject(userDetails.getUsername())
-                .issuedAt(new Date(System.currentTimeMillis()))
-                .expiration(new Date(System.currentTimeMillis() + expirationTime))
-                .signWith(getSignInKey())
-                .compact();
+        Map<String, Object> claims = new HashMap<>(extraClaims);
+        claims.put(TOKEN_TYPE_CLAIM, ACCESS_TOKEN_TYPE);
+        return buildToken(claims, userDetails, UUID.randomUUID().toString(), expirationTime);
+    }
+
+    /**
+     * @param id token id ({@code jti}); refresh tokens are tracked server-side under it for rotation
+     */
+    public String generateRefreshToken(UserDetails userDetails, String id) {
+        return buildToken(Map.of(TOKEN_TYPE_CLAIM, REFRESH_TOKEN_TYPE), userDetails, id, refreshExpirationTime);
     }
 
     public String extractEmail(String token) {
         return extractClaim(token, Claims::getSubject);
     }
 
+    public String extractId(String token) {
+        return extractClaim(token, Claims::getId);
+    }
+
+    public Date extractExpiration(String token) {
+        return extractClaim(token, Claims::getExpiration);
+    }
+
+    /**
+     * Verifies the signature and expiry of a refresh token and returns its claims.
+     *
+     * @throws io.jsonwebtoken.JwtException if the token is invalid, expired or not a refresh token
+     */
+    public Claims parseRefreshToken(String token) {
+        Claims claims = extractAllClaims(token);
+        if (!REFRESH_TOKEN_TYPE.equals(claims.get(TOKEN_TYPE_CLAIM)) || claims.getId() == null) {
+            throw new MalformedJwtException("Not a refresh token");
+        }
+        return claims;
+    }
+
     public <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
         final Claims claim = extractAllClaims(token);
         return claimsResolver.apply(claim);
     }
 
     public boolean isValid(String token, UserDetails userDetails) {
-        final String email = extractEmail(token);
-        return (email.equals(userDetails.getUsername())) && !isExpired(token);
-    }
-
-    private boolean isExpired(String token) {
-        return extractExripationDate(token).before(new Date());
+        final Claims claims = extractAllClaims(token);
+        return claims.getSubject().equals(userDetails.getUsername())
+                && ACCESS_TOKEN_TYPE.equals(claims.get(TOKEN_TYPE_CLAIM))
+                && !claims.getExpiration().before(new Date());
     }
 
-    private Date extractExripationDate(String token) {
-        return extractClaim(token, Claims::getExpiration);
+    private String buildToken(Map<String, Object> claims, UserDetails userDetails, String id, long lifetime) {
+        long now = System.currentTimeMillis();
+        return Jwts.builder()
+                .claims(claims)
+                .id(id)
+                .subject(userDetails.getUsername())
+                .issuedAt(new Date(now))
+                .expiration(new Date(now + lifetime))
+                .signWith(getSignInKey())
+                .compact();
     }
 
     private Claims extractAllClaims(String token) {
@@ -0,0 +1,202 @@
+package com.akella.todolistapi.service;
+
+import com.akella.todolistapi.model.User;
+import com.akella.todolistapi.repository.TaskImportCheckpointRepository;
+import com.akella.todolistapi.repository.TaskImportCheckpointRepository.Checkpoint;
+import com.akella.todolistapi.repository.TaskJdbcRepository;
+import com.akella.todolistapi.repository.UserRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Streams tasks from an NDJSON or CSV file into the database in large batches.
+ * <p>
+ * Each batch is committed together with a checkpoint (the byte offset after its last line), so an
+ * interrupted import resumes at the first line that was not committed. Lines that would be rejected by the
+ * {@code task} table (missing or over-long description, malformed fields, unknown or deleted user) are skipped and
+ * counted instead of failing the whole batch.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TaskImportService {
+
+    private static final long UNKNOWN_USER = -1L;
+    private static final long PROGRESS_INTERVAL = 100_000;
+    /** Length of {@code task.description}, see V1__init_schema.sql. */
+    static final int MAX_DESCRIPTION_LENGTH = 255;
+
+    private final TaskJdbcRepository taskJdbcRepository;
+    private final TaskImportCheckpointRepository checkpointRepository;
+    private final UserRepository userRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * One task line; CSV files use the same columns in this order, with a header line.
+     */
+    record ImportedTask(String email, String description, LocalDateTime deadlineDateTime, Boolean isCompleted) {}
+
+    public record ImportResult(long imported, long skipped, long resumedFrom, long elapsedMillis) {
+
+        public long rowsPerSecond() {
+            return elapsedMillis > 0 ? imported * 1000 / elapsedMillis : imported;
+        }
+    }
+
+    public ImportResult importTasks(Path file, int batchSize, boolean fromStart) throws IOException {
+        String source = file.toAbsolutePath().normalize().toString();
+        boolean csv = source.toLowerCase().endsWith(".csv");
+        if (fromStart) {
+            checkpointRepository.deleteBySource(source);
+        }
+        Checkpoint checkpoint = checkpointRepository.findBySource(source).orElse(new Checkpoint(0, 0));
+
+        Map<String, Long> userIds = new HashMap<>();
+        List<TaskJdbcRepository.Row> batch = new ArrayList<>(batchSize);
+        long imported = 0;
+        long skipped = 0;
+        long nextProgress = PROGRESS_INTERVAL;
+        long startedAt = System.currentTimeMillis();
+
+        try (ChannelLineReader reader = new ChannelLineReader(file, checkpoint.fileOffset())) {
+            if (checkpoint.fileOffset() > 0) {
+                log.info("Resuming import of {} at byte {} of {} ({} rows already imported)",
+                        source, checkpoint.fileOffset(), reader.size(), checkpoint.rowsImported());
+            } else if (csv) {
+                reader.readLine();
+            }
+
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                TaskJdbcRepository.Row row = toRow(line, csv, userIds);
+                if (row == null) {
+                    skipped++;
+                } else {
+                    batch.add(row);
+                }
+                if (batch.size() >= batchSize) {
+                    imported += commit(source, batch, reader.position(), checkpoint.rowsImported() + imported);
+                    if (imported >= nextProgress) {
+                        nextProgress += PROGRESS_INTERVAL;
+                        log.info("Imported {} tasks, {}% of file, {} rows/s", imported,
+                                reader.position() * 100 / Math.max(reader.size(), 1),
+                                imported * 1000 / Math.max(System.currentTimeMillis() - startedAt, 1));
+                    }
+                }
+            }
+            imported += commit(source, batch, reader.position(), checkpoint.rowsImported() + imported);
+        }
+        return new ImportResult(imported, skipped, checkpoint.fileOffset(), System.currentTimeMillis() - startedAt);
+    }
+
+    private int commit(String source, List<TaskJdbcRepository.Row> batch, long fileOffset, long rowsBefore) {
+        int size = batch.size();
+        transactionTemplate.executeWithoutResult(status -> {
+            taskJdbcRepository.insertBatch(batch);
+            checkpointRepository.save(source, new Checkpoint(fileOffset, rowsBefore + size));
+        });
+        batch.clear();
+        return size;
+    }
+
+    private TaskJdbcRepository.Row toRow(String line, boolean csv, Map<String, Long> userIds) {
+        ImportedTask task;
+        try {
+            task = csv ? parseCsv(line) : objectMapper.readValue(line, ImportedTask.class);
+        } catch (JsonProcessingException | DateTimeParseException | IllegalArgumentException e) {
+            log.debug("Skipping malformed line: {}", e.getMessage());
+            return null;
+        }
+        if (task.email() == null || !isValidDescription(task.description())) {
+            return null;
+        }
+        long userId = userIds.computeIfAbsent(task.email(), email -> userRepository.findByEmailAndDeletedFalse(email)
+                .map(User::getId)
+                .orElse(UNKNOWN_USER));
+        if (userId == UNKNOWN_USER) {
+            return null;
+        }
+        return new TaskJdbcRepository.Row(userId, task.description(), task.deadlineDateTime(),
+                Boolean.TRUE.equals(task.isCompleted()));
+    }
+
+    static boolean isValidDescription(String description) {
+        return description != null
+                && !description.isBlank()
+                && description.codePointCount(0, description.length()) <= MAX_DESCRIPTION_LENGTH
+                && description.indexOf('\0') < 0;
+    }
+
+    /**
+     * Parses one {@code email,description,deadlineDateTime[,isCompleted]} line. Quoted fields may contain commas
+     * and doubled quotes but not line breaks, since the file is read line by line.
+     *
+     * @throws IllegalArgumentException if the line has the wrong number of fields, an unterminated quote or a
+     * completion flag other than {@code true}, {@code false} or empty
+     */
+    static ImportedTask parseCsv(String line) {
+        List<String> fields = splitCsv(line);
+        if (fields.size() < 3 || fields.size() > 4) {
+            throw new IllegalArgumentException("Expected 3 or 4 fields but got " + fields.size());
+        }
+        String deadline = fields.get(2);
+        String completed = fields.size() > 3 ? fields.get(3) : "";
+        if (!completed.isEmpty() && !completed.equalsIgnoreCase("true") && !completed.equalsIgnoreCase("false")) {
+            throw new IllegalArgumentException("Invalid completion flag: " + completed);
+        }
+        return new ImportedTask(
+                fields.get(0),
+                fields.get(1),
+                deadline.isEmpty() ? null : LocalDateTime.parse(deadline),
+                Boolean.parseBoolean(completed)
+        );
+    }
+
+    private static List<String> splitCsv(String line) {
+        List<String> fields = new ArrayList<>(4);
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c != '"') {
+                    field.append(c);
+                } else if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else {
+                    quoted = false;
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("Unterminated quoted field, line breaks inside fields are not supported");
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+}
@@ -0,0 +1,92 @@
+package com.akella.todolistapi.service;
+
+import com.akella.todolistapi.model.RevokedToken;
+import com.akella.todolistapi.repository.RefreshTokenRepository;
+import com.akella.todolistapi.repository.RevokedTokenRepository;
+import com.akella.todolistapi.security.TokenRevocationList;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * Persists access token revocations and keeps {@link TokenRevocationList} in sync with them, so the
+ * per-request check never needs the database. Revocations made by other instances are pulled every
+ * {@value #SYNC_INTERVAL_MILLIS} ms. Never lazily initialized, so the synchronization is scheduled under the
+ * {@code fast-startup} profile as well.
+ */
+@Slf4j
+@Service
+@Lazy(false)
+@RequiredArgsConstructor
+public class TokenRevocationService {
+
+    public static final long SYNC_INTERVAL_MILLIS = 10_000;
+    /**
+     * {@code created_at} is the start of the inserting transaction, which may commit after a poll that already
+     * saw later rows; re-reading this window again is harmless.
+     */
+    public static final Duration SYNC_OVERLAP = Duration.ofSeconds(30);
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final TokenRevocationList tokenRevocationList;
+
+    private volatile Instant watermark = Instant.EPOCH;
+
+    /**
+     * Runs before the readiness state switches to accepting traffic.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadRevokedTokens() {
+        List<RevokedToken> revoked = revokedTokenRepository.findByExpiresAtAfter(Instant.now());
+        tokenRevocationList.reset(revoked.stream()
+                .collect(Collectors.toMap(RevokedToken::getJti, RevokedToken::getExpiresAt)));
+        watermark = latestCreatedAt(revoked, watermark);
+        log.info("Loaded {} revoked access tokens", revoked.size());
+    }
+
+    @Transactional
+    public void revokeAccessToken(String jti, Instant expiresAt) {
+        if (jti == null || !expiresAt.isAfter(Instant.now())) {
+            return;
+        }
+        revokedTokenRepository.save(new RevokedToken(jti, expiresAt));
+        tokenRevocationList.revoke(jti, expiresAt);
+    }
+
+    /**
+     * Adds the revocations stored since the last run, including those of other instances, and drops expired
+     * tokens from the database and the in-memory list.
+     */
+    @Scheduled(fixedDelay = SYNC_INTERVAL_MILLIS)
+    @Transactional
+    public void synchronize() {
+        Instant now = Instant.now();
+        List<RevokedToken> revoked = revokedTokenRepository.findByCreatedAtAfterAndExpiresAtAfter(
+                watermark.minus(SYNC_OVERLAP), now);
+        revoked.forEach(token -> tokenRevocationList.revoke(token.getJti(), token.getExpiresAt()));
+        watermark = latestCreatedAt(revoked, watermark);
+
+        revokedTokenRepository.deleteExpired(now);
+        refreshTokenRepository.deleteExpired(now);
+        tokenRevocationList.purgeExpired();
+    }
+
+    private static Instant latestCreatedAt(List<RevokedToken> tokens, Instant current) {
+        return tokens.stream()
+                .map(RevokedToken::getCreatedAt)
+                .filter(Objects::nonNull)
+                .reduce(current, (a, b) -> a.isAfter(b) ? a : b);
+    }
+}
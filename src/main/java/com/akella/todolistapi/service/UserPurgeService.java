@@ -0,0 +1,163 @@
+package com.akella.todolistapi.service;
+
+import com.akella.todolistapi.model.User;
+import com.akella.todolistapi.repository.RefreshTokenRepository;
+import com.akella.todolistapi.repository.TaskJdbcRepository;
+import com.akella.todolistapi.repository.UserJdbcRepository;
+import com.akella.todolistapi.repository.UserPurgeRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Account deletion in two steps. {@link #requestDeletion} flags the user as deleted, which locks the account
+ * out immediately, and records a pending purge. The scheduled job then claims pending purges, at most one per
+ * free worker, and hands them to a dedicated pool of {@code workers} threads. A worker deletes the user's tasks
+ * in chunks of {@code chunkSize}, each chunk in its own transaction together with the progress counter and a
+ * renewal of the claim's lease, and finally removes the refresh tokens and the user row. All state lives in
+ * {@code user_purge}, so an interrupted purge simply continues once its claim is released or has expired.
+ */
+@Slf4j
+@Service
+@Lazy(false)
+@Setter
+@ConfigurationProperties(prefix = "todolist.purge")
+public class UserPurgeService {
+
+    private final UserJdbcRepository userJdbcRepository;
+    private final TaskJdbcRepository taskJdbcRepository;
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final UserPurgeRepository userPurgeRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final String owner = UUID.randomUUID().toString();
+
+    private int chunkSize = 1000;
+    private int workers = 1;
+    private Duration lease = Duration.ofMinutes(5);
+
+    private ExecutorService executor;
+    private Semaphore freeWorkers;
+
+    @Autowired
+    public UserPurgeService(UserJdbcRepository userJdbcRepository,
+                            TaskJdbcRepository taskJdbcRepository,
+                            RefreshTokenRepository refreshTokenRepository,
+                            UserPurgeRepository userPurgeRepository,
+                            TransactionTemplate transactionTemplate) {
+        this.userJdbcRepository = userJdbcRepository;
+        this.taskJdbcRepository = taskJdbcRepository;
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.userPurgeRepository = userPurgeRepository;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    @PostConstruct
+    public void start() {
+        AtomicInteger threadCount = new AtomicInteger();
+        executor = Executors.newFixedThreadPool(workers, runnable -> {
+            Thread thread = new Thread(runnable, "user-purge-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        freeWorkers = new Semaphore(workers);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        // Interrupted workers stop after their current chunk and release their claims
+        executor.shutdownNow();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    @Transactional
+    public void requestDeletion(User user) {
+        userJdbcRepository.markDeleted(user.getId());
+        refreshTokenRepository.revokeAllByUser(user);
+        userPurgeRepository.createPending(user.getId());
+    }
+
+    @Scheduled(fixedDelay = 5_000)
+    public void purgePending() {
+        while (freeWorkers.tryAcquire()) {
+            Optional<Long> claimed;
+            try {
+                claimed = userPurgeRepository.claimNext(owner, lease);
+            } catch (RuntimeException e) {
+                freeWorkers.release();
+                throw e;
+            }
+            if (claimed.isEmpty()) {
+                freeWorkers.release();
+                return;
+            }
+            long userId = claimed.get();
+            executor.execute(() -> {
+                try {
+                    purge(userId);
+                } catch (RuntimeException e) {
+                    // Progress so far is committed; the purge stays pending and is claimed again on a later run
+                    log.warn("Purge of user {} interrupted", userId, e);
+                    userPurgeRepository.release(userId, owner);
+                } finally {
+                    freeWorkers.release();
+                }
+            });
+        }
+    }
+
+    /**
+     * Runs a purge this instance has claimed. Stops, rolling back the current chunk, as soon as the claim turns
+     * out to be held by another instance.
+     *
+     * @return number of tasks deleted by this call
+     */
+    public long purge(long userId) {
+        long deleted = 0;
+        int chunk;
+        do {
+            if (Thread.currentThread().isInterrupted()) {
+                throw new IllegalStateException("Purge of user " + userId + " stopped by shutdown");
+            }
+            chunk = transactionTemplate.execute(status -> {
+                int count = taskJdbcRepository.deleteChunkByUser(userId, chunkSize);
+                if (!userPurgeRepository.addProgress(userId, owner, count, lease)) {
+                    throw claimLost(userId);
+                }
+                return count;
+            });
+            deleted += chunk;
+        } while (chunk == chunkSize);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!userPurgeRepository.markCompleted(userId, owner)) {
+                throw claimLost(userId);
+            }
+            refreshTokenRepository.deleteAllByUserId(userId);
+            userJdbcRepository.deleteSoftDeleted(userId);
+        });
+        log.info("Purged user {}, {} tasks deleted", userId, deleted);
+        return deleted;
+    }
+
+    private static IllegalStateException claimLost(long userId) {
+        return new IllegalStateException("Claim on the purge of user " + userId + " was lost to another instance");
+    }
+}
@@ -0,0 +1,27 @@
+-- Baseline schema, matching what hibernate.ddl-auto=update used to generate.
+-- Existing databases are baselined at this version (spring.flyway.baseline-on-migrate).
+
+create sequence _user_seq start with 1 increment by 50;
+create sequence task_seq start with 1 increment by 50;
+
+create table _user
+(
+    id       bigint       not null,
+    email    varchar(255) not null,
+    password varchar(255) not null,
+    role     varchar(255),
+    primary key (id),
+    constraint uk_user_email unique (email),
+    constraint ck_user_role check (role in ('USER', 'ADMIN'))
+);
+
+create table task
+(
+    id                 bigint       not null,
+    deadline_date_time timestamp(6),
+    description        varchar(255) not null,
+    is_completed       boolean      not null,
+    user_id            bigint       not null,
+    primary key (id),
+    constraint fk_task_user foreign key (user_id) references _user (id)
+);
@@ -0,0 +1,3 @@
+-- Serves TaskRepository.findByUserOrderByDeadlineDateTimeAsc and findByIdAndUser
+-- without a sequential scan; also backs the task.user_id foreign key.
+create index if not exists idx_task_user_deadline on task (user_id, deadline_date_time);
@@ -0,0 +1,9 @@
+-- Progress of the import-tasks shell command, committed together with each imported batch
+create table task_import_checkpoint
+(
+    source        varchar(1024) not null,
+    file_offset   bigint        not null,
+    rows_imported bigint        not null,
+    updated_at    timestamp(6)  not null,
+    primary key (source)
+);
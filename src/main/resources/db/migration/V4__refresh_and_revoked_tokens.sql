@@ -0,0 +1,22 @@
+-- Rotating refresh tokens; a revoked token that is presented again revokes the user's whole family
+create table refresh_token
+(
+    id         varchar(255)                not null,
+    user_id    bigint                      not null,
+    expires_at timestamp(6) with time zone not null,
+    revoked    boolean                     not null,
+    primary key (id),
+    constraint fk_refresh_token_user foreign key (user_id) references _user (id)
+);
+
+create index idx_refresh_token_user on refresh_token (user_id);
+
+-- Revoked access token ids; loaded into TokenRevocationList on startup, purged once expired
+create table revoked_token
+(
+    jti        varchar(255)                not null,
+    expires_at timestamp(6) with time zone not null,
+    primary key (jti)
+);
+
+create index idx_revoked_token_expires_at on revoked_token (expires_at);
@@ -0,0 +1,20 @@
+-- Deleted accounts are flagged first and their data removed afterwards by the purge worker,
+-- in chunks, so deleting a large account never runs as one huge transaction.
+
+alter table _user add column deleted boolean not null default false;
+
+-- One row per deleted account. A row stays PENDING until the user's tasks, refresh tokens and the
+-- user row itself are gone; tasks_deleted is committed together with each deleted chunk.
+create table user_purge
+(
+    user_id       bigint         not null,
+    status        varchar(255)   not null,
+    tasks_deleted bigint         not null default 0,
+    requested_at  timestamptz(6) not null,
+    updated_at    timestamptz(6) not null,
+    completed_at  timestamptz(6),
+    primary key (user_id),
+    constraint ck_user_purge_status check (status in ('PENDING', 'COMPLETED'))
+);
+
+create index idx_user_purge_pending on user_purge (requested_at) where status = 'PENDING';
@@ -0,0 +1,5 @@
+-- Lets every instance pull the revocations made by the others since its last poll
+alter table revoked_token
+    add column created_at timestamp(6) with time zone not null default now();
+
+create index idx_revoked_token_created_at on revoked_token (created_at);
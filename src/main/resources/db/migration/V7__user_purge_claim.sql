@@ -0,0 +1,5 @@
+-- A pending purge is claimed by one instance at a time. The claim is a lease renewed with every chunk,
+-- so the purge of an instance that died is picked up by another one once claimed_until has passed.
+alter table user_purge
+    add column claimed_by    varchar(64),
+    add column claimed_until timestamptz(6);
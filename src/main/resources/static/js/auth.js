@@ -184,6 +184,7 @@ class AuthManager {
 
                 // Store authentication data
                 Auth.setToken(data.token);
+                Auth.setRefreshToken(data.refreshToken);
                 Auth.setUser(email);
 
                 Toast.success('Welcome back! Redirecting to dashboard...');
@@ -254,6 +255,7 @@ class AuthManager {
 
                 // Store authentication data
                 Auth.setToken(data.token);
+                Auth.setRefreshToken(data.refreshToken);
                 Auth.setUser(email);
 
                 Toast.success('Account created successfully! Welcome aboard!');
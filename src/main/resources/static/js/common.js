@@ -6,6 +6,8 @@ const API_CONFIG = {
     ENDPOINTS: {
         LOGIN: '/auth/login',
         REGISTER: '/auth/register',
+        REFRESH: '/auth/refresh',
+        LOGOUT: '/auth/logout',
         TASKS: '/tasks'
     }
 };
@@ -20,6 +22,34 @@ const Auth = {
         localStorage.setItem('authToken', token);
     },
 
+    getRefreshToken() {
+        return localStorage.getItem('refreshToken');
+    },
+
+    setRefreshToken(refreshToken) {
+        if (refreshToken) {
+            localStorage.setItem('refreshToken', refreshToken);
+        }
+    },
+
+    // Exchange the refresh token for a new token pair; each refresh token works only once
+    async refresh() {
+        const refreshToken = this.getRefreshToken();
+        if (!refreshToken) return false;
+
+        const response = await fetch(`${API_CONFIG.BASE_URL}${API_CONFIG.ENDPOINTS.REFRESH}`, {
+            method: 'POST',
+            headers: { 'Content-Type': 'application/json' },
+            body: JSON.stringify({ refreshToken })
+        });
+        if (!response.ok) return false;
+
+        const data = await response.json();
+        this.setToken(data.token);
+        this.setRefreshToken(data.refreshToken);
+        return true;
+    },
+
     getUser() {
         return localStorage.getItem('currentUser');
     },
@@ -29,7 +59,22 @@ const Auth = {
     },
 
     logout() {
+        const token = this.getToken();
+        const refreshToken = this.getRefreshToken();
+        if (token || refreshToken) {
+            // Best effort: revoke both tokens server-side
+            fetch(`${API_CONFIG.BASE_URL}${API_CONFIG.ENDPOINTS.LOGOUT}`, {
+                method: 'POST',
+                headers: {
+                    'Content-Type': 'application/json',
+                    ...(token ? { 'Authorization': `Bearer ${token}` } : {})
+                },
+                body: JSON.stringify({ refreshToken }),
+                keepalive: true
+            }).catch(() => {});
+        }
         localStorage.removeItem('authToken');
+        localStorage.removeItem('refreshToken');
         localStorage.removeItem('currentUser');
         // Redirect to auth page
         if (window.location.pathname !== '/auth.html' && window.location.pathname !== '/index.html') {
@@ -52,7 +97,7 @@ const Auth = {
 
 // API utilities
 const API = {
-    async call(endpoint, options = {}) {
+    async call(endpoint, options = {}, retried = false) {
         const url = `${API_CONFIG.BASE_URL}${endpoint}`;
 
         const defaultHeaders = {
@@ -74,6 +119,11 @@ const API = {
         try {
             const response = await fetch(url, config);
 
+            // Access tokens are short-lived: refresh once and retry before giving up
+            if (response.status === 401 && !retried && !endpoint.startsWith('/auth/') && await Auth.refresh()) {
+                return this.call(endpoint, options, true);
+            }
+
             // Handle unauthorized responses
             if (response.status === 401 || response.status === 403) {
                 Auth.logout();
@@ -0,0 +1,82 @@
+package com.akella.todolistapi.config;
+
+import com.akella.todolistapi.controller.TaskController;
+import com.akella.todolistapi.journal.TaskEventJournal;
+import com.akella.todolistapi.repository.TaskRepository;
+import com.akella.todolistapi.repository.UserRepository;
+import com.akella.todolistapi.security.TokenRevocationList;
+import com.akella.todolistapi.service.JwtService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(TaskController.class)
+@Import(SecurityConfig.class)
+public class StaticResourceTest {
+
+    private static final Pattern FINGERPRINTED_SCRIPT = Pattern.compile("src=\"(/js/common-[0-9a-f]{32}\\.js)\"");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private TaskRepository taskRepository;
+
+    @MockitoBean
+    private UserRepository userRepository;
+
+    @MockitoBean
+    private TaskEventJournal taskEventJournal;
+
+    @MockitoBean
+    private JwtService jwtService;
+
+    @MockitoBean
+    private UserDetailsService userDetailsService;
+
+    @MockitoBean
+    private TokenRevocationList tokenRevocationList;
+
+    @MockitoBean
+    private AuthenticationProvider authenticationProvider;
+
+    @Test
+    void page_shouldLinkFingerprintedAssets() throws Exception {
+        String html = mockMvc.perform(get("/dashboard.html"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Cache-Control", "no-cache"))
+                .andReturn().getResponse().getContentAsString();
+
+        assertTrue(html.matches("(?s).*href=\"/styles/common-[0-9a-f]{32}\\.css\".*"), html);
+        assertTrue(FINGERPRINTED_SCRIPT.matcher(html).find(), html);
+        assertFalse(html.contains("\"js/common.js\""));
+        assertFalse(html.contains("\"styles/common.css\""));
+    }
+
+    @Test
+    void fingerprintedAsset_shouldBePublicAndImmutable() throws Exception {
+        String html = mockMvc.perform(get("/index.html")).andReturn().getResponse().getContentAsString();
+        Matcher matcher = FINGERPRINTED_SCRIPT.matcher(html);
+        assertTrue(matcher.find(), html);
+
+        mockMvc.perform(get(matcher.group(1)))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Cache-Control", containsString("immutable")))
+                .andExpect(header().string("X-Content-Type-Options", "nosniff"));
+    }
+}
@@ -0,0 +1,82 @@
+package com.akella.todolistapi.config;
+
+import com.akella.todolistapi.dto.TaskDto;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * CPU cost of encoding and decoding task payloads in the three negotiated formats. Not part of the regular
+ * test run (the class name does not match Surefire's includes); run it explicitly with
+ * {@code mvn test -Dtest=TaskPayloadEncodingBenchmark} and read the results from the log.
+ * <p>
+ * Every case is warmed up for {@value #WARMUP_MILLIS} ms and then measured in {@value #SAMPLES} samples of at
+ * least {@value #SAMPLE_MILLIS} ms each; the median time per operation is reported.
+ */
+@Slf4j
+public class TaskPayloadEncodingBenchmark {
+
+    private static final long WARMUP_MILLIS = 2_000;
+    private static final long SAMPLE_MILLIS = 100;
+    private static final int SAMPLES = 20;
+    private static final TypeReference<List<TaskDto>> TASK_LIST = new TypeReference<>() {};
+
+    private final Map<String, ObjectMapper> mappers = new LinkedHashMap<>();
+
+    {
+        mappers.put("JSON", TaskPayloads.JSON);
+        mappers.put("Smile", TaskPayloads.SMILE);
+        mappers.put("CBOR", TaskPayloads.CBOR);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1_000, 100_000})
+    void encodeAndDecode(int count) throws Exception {
+        List<TaskDto> tasks = TaskPayloads.tasks(count);
+        for (Map.Entry<String, ObjectMapper> format : mappers.entrySet()) {
+            ObjectMapper mapper = format.getValue();
+            byte[] payload = mapper.writeValueAsBytes(tasks);
+            assertEquals(tasks, mapper.readValue(payload, TASK_LIST));
+
+            double encode = medianMicros(() -> mapper.writeValueAsBytes(tasks));
+            double decode = medianMicros(() -> mapper.readValue(payload, TASK_LIST));
+            log.info(String.format("%,8d tasks  %-5s  %,11d bytes  encode %,10.1f us  decode %,10.1f us",
+                    count, format.getKey(), payload.length, encode, decode));
+        }
+    }
+
+    private static double medianMicros(Callable<?> operation) throws Exception {
+        long warmupEnd = System.nanoTime() + WARMUP_MILLIS * 1_000_000;
+        while (System.nanoTime() < warmupEnd) {
+            operation.call();
+        }
+        double[] samples = new double[SAMPLES];
+        Object sink = null;
+        for (int i = 0; i < SAMPLES; i++) {
+            long operations = 0;
+            long start = System.nanoTime();
+            long elapsed;
+            do {
+                sink = operation.call();
+                operations++;
+                elapsed = System.nanoTime() - start;
+            } while (elapsed < SAMPLE_MILLIS * 1_000_000);
+            samples[i] = elapsed / 1_000.0 / operations;
+        }
+        if (sink == null) {
+            throw new IllegalStateException("Operation returned nothing");
+        }
+        Arrays.sort(samples);
+        return samples[SAMPLES / 2];
+    }
+}
@@ -0,0 +1,54 @@
+package com.akella.todolistapi.config;
+
+import com.akella.todolistapi.dto.TaskDto;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Size comparison of the binary task payloads against the JSON one served by default.
+ */
+public class TaskPayloadEncodingTest {
+
+    private final ObjectMapper jsonMapper = TaskPayloads.JSON;
+    private final ObjectMapper smileMapper = TaskPayloads.SMILE;
+    private final ObjectMapper cborMapper = TaskPayloads.CBOR;
+
+    @ParameterizedTest
+    @ValueSource(ints = {1_000, 100_000})
+    void binaryPayloads_shouldBeSmallerThanJsonAndRoundTrip(int count) throws Exception {
+        List<TaskDto> tasks = TaskPayloads.tasks(count);
+
+        byte[] json = jsonMapper.writeValueAsBytes(tasks);
+        byte[] smile = smileMapper.writeValueAsBytes(tasks);
+        byte[] cbor = cborMapper.writeValueAsBytes(tasks);
+
+        assertTrue(smile.length < json.length / 2, "Smile " + smile.length + " bytes vs JSON " + json.length);
+        assertTrue(cbor.length < json.length, "CBOR " + cbor.length + " bytes vs JSON " + json.length);
+        assertEquals(tasks, smileMapper.readValue(smile, new TypeReference<List<TaskDto>>() {}));
+        assertEquals(tasks, cborMapper.readValue(cbor, new TypeReference<List<TaskDto>>() {}));
+    }
+
+    @Test
+    void binaryMapper_shouldKeepTheSettingsOfTheGivenBuilder() throws Exception {
+        ObjectMapper smile = WebConfig.binaryObjectMapper(
+                new Jackson2ObjectMapperBuilder().serializationInclusion(JsonInclude.Include.NON_NULL), new SmileFactory());
+
+        Map<String, Object> task = smile.readValue(smile.writeValueAsBytes(new TaskDto(1L, "Task", null, false)),
+                new TypeReference<>() {});
+
+        assertFalse(task.containsKey("deadlineDateTime"));
+    }
+}
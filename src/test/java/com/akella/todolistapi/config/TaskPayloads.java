@@ -0,0 +1,36 @@
+package com.akella.todolistapi.config;
+
+import com.akella.todolistapi.dto.TaskDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Task list fixture and the three payload mappers, shared by the encoding test and benchmark.
+ */
+final class TaskPayloads {
+
+    static final ObjectMapper JSON = Jackson2ObjectMapperBuilder.json()
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+    static final ObjectMapper SMILE = WebConfig.binaryObjectMapper(new Jackson2ObjectMapperBuilder(), new SmileFactory());
+    static final ObjectMapper CBOR = WebConfig.binaryObjectMapper(new Jackson2ObjectMapperBuilder(), new CBORFactory());
+
+    private TaskPayloads() {
+    }
+
+    static List<TaskDto> tasks(int count) {
+        LocalDateTime deadline = LocalDateTime.of(2025, 9, 22, 12, 0);
+        List<TaskDto> tasks = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            tasks.add(new TaskDto((long) i, "Task number " + i, i % 3 == 0 ? null : deadline.plusMinutes(i), i % 2 == 0));
+        }
+        return tasks;
+    }
+}
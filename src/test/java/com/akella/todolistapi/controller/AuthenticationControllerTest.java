@@ -2,6 +2,7 @@ package com.akella.todolistapi.controller;
 
 import com.akella.todolistapi.dto.UserDto;
 import com.akella.todolistapi.security.AuthenticationResponse;
+import com.akella.todolistapi.security.TokenRevocationList;
 import com.akella.todolistapi.service.AuthenticationService;
 import com.akella.todolistapi.service.JwtService;
 import org.junit.jupiter.api.Test;
@@ -9,10 +10,12 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.http.MediaType;
+import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
@@ -32,21 +35,25 @@ public class AuthenticationControllerTest {
     @MockitoBean
     private AuthenticationService authenticationService;
 
+    @MockitoBean
+    private TokenRevocationList tokenRevocationList;
+
     @Test
     void registerUser_shouldReturnToken() throws Exception {
-        AuthenticationResponse response = new AuthenticationResponse("jwt-token");
+        AuthenticationResponse response = new AuthenticationResponse("jwt-token", "refresh-token");
         when(authenticationService.register(any(UserDto.class))).thenReturn(response);
 
         mockMvc.perform(post("/auth/register")
                 .contentType(MediaType.APPLICATION_JSON)
                 .content("{\"email\":\"test@email.com\",\"password\":\"password\"}"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.token").value("jwt-token"));
+                .andExpect(jsonPath("$.token").value("jwt-token"))
+                .andExpect(jsonPath("$.refreshToken").value("refresh-token"));
     }
 
     @Test
     void loginUser_shouldReturnToken() throws Exception {
-        AuthenticationResponse response = new AuthenticationResponse("jwt-login-token");
+        AuthenticationResponse response = new AuthenticationResponse("jwt-login-token", "refresh-login-token");
         when(authenticationService.login(any(UserDto.class))).thenReturn(response);
 
         mockMvc.perform(post("/auth/login")
@@ -55,4 +62,38 @@ public class AuthenticationControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.token").value("jwt-login-token"));
     }
+
+    @Test
+    void refreshToken_shouldReturnNewTokenPair() throws Exception {
+        AuthenticationResponse response = new AuthenticationResponse("jwt-new-token", "refresh-new-token");
+        when(authenticationService.refresh("refresh-token")).thenReturn(response);
+
+        mockMvc.perform(post("/auth/refresh")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"refreshToken\":\"refresh-token\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.token").value("jwt-new-token"))
+                .andExpect(jsonPath("$.refreshToken").value("refresh-new-token"));
+    }
+
+    @Test
+    void refreshToken_reusedTokenShouldReturn401() throws Exception {
+        when(authenticationService.refresh("rotated-token")).thenThrow(new BadCredentialsException("Refresh token reuse detected"));
+
+        mockMvc.perform(post("/auth/refresh")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"refreshToken\":\"rotated-token\"}"))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void logoutUser_shouldRevokeTokens() throws Exception {
+        mockMvc.perform(post("/auth/logout")
+                .header("Authorization", "Bearer jwt-token")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"refreshToken\":\"refresh-token\"}"))
+                .andExpect(status().isOk());
+
+        verify(authenticationService).logout("jwt-token", "refresh-token");
+    }
 }
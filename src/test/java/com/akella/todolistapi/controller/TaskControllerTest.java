@@ -1,5 +1,8 @@
 package com.akella.todolistapi.controller;
 
+import com.akella.todolistapi.enums.TaskEventType;
+import com.akella.todolistapi.journal.TaskEvent;
+import com.akella.todolistapi.journal.TaskEventJournal;
 import com.akella.todolistapi.model.Task;
 import com.akella.todolistapi.model.User;
 import com.akella.todolistapi.repository.TaskRepository;
@@ -19,11 +22,15 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.http.MediaType;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -43,6 +50,9 @@ public class TaskControllerTest {
     @MockitoBean
     private JwtAuthenticationFilter jwtAuthenticationFilter;
 
+    @MockitoBean
+    private TaskEventJournal taskEventJournal;
+
     private User mockUser;
 
     @BeforeEach
@@ -78,6 +88,24 @@ public class TaskControllerTest {
                 .andExpect(jsonPath("$.description").value("Test description"));
     }
 
+    @Test
+    void getAllTasks_shouldNegotiateCbor() throws Exception {
+        Task task = new Task();
+        task.setId(11L);
+        task.setDescription("Test description");
+        task.setUser(mockUser);
+
+        when(taskRepository.findByUserOrderByDeadlineDateTimeAsc(mockUser)).thenReturn(List.of(task));
+
+        mockMvc.perform(get("/tasks").accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR));
+
+        mockMvc.perform(get("/tasks"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON));
+    }
+
     @Test
     void completeTask_shouldMarkCompleted() throws Exception {
         Task task = new Task();
@@ -92,6 +120,9 @@ public class TaskControllerTest {
         mockMvc.perform(patch("/tasks/5"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.isCompleted").value(true));
+
+        verify(taskEventJournal).append(argThat((TaskEvent event) ->
+                event.type() == TaskEventType.COMPLETED && event.taskId() == 5L && event.userId() == 1L));
     }
 
     @Test
@@ -112,6 +143,8 @@ public class TaskControllerTest {
 
         mockMvc.perform(delete("/tasks/3"))
                 .andExpect(status().isOk());
+
+        verify(taskEventJournal).append(argThat((TaskEvent event) -> event.type() == TaskEventType.DELETED && event.taskId() == 3L));
     }
 
     @Test
@@ -0,0 +1,78 @@
+package com.akella.todolistapi.controller;
+
+import com.akella.todolistapi.model.User;
+import com.akella.todolistapi.repository.UserRepository;
+import com.akella.todolistapi.security.JwtAuthenticationFilter;
+import com.akella.todolistapi.service.UserPurgeService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(UserController.class)
+@AutoConfigureMockMvc(addFilters = false)
+public class UserControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private UserRepository userRepository;
+
+    @MockitoBean
+    private UserPurgeService userPurgeService;
+
+    @MockitoBean
+    private JwtAuthenticationFilter jwtAuthenticationFilter;
+
+    private User mockUser;
+
+    @BeforeEach
+    void setUp() {
+        mockUser = new User();
+        mockUser.setId(1L);
+        mockUser.setEmail("test@email.com");
+
+        Authentication authentication = Mockito.mock(Authentication.class);
+        when(authentication.getName()).thenReturn(mockUser.getEmail());
+        SecurityContext securityContext = Mockito.mock(SecurityContext.class);
+        when(securityContext.getAuthentication()).thenReturn(authentication);
+        SecurityContextHolder.setContext(securityContext);
+    }
+
+    @Test
+    void deleteCurrentUser_shouldRequestPurgeAndReturnAccepted() throws Exception {
+        when(userRepository.findByEmailAndDeletedFalse(mockUser.getEmail())).thenReturn(Optional.of(mockUser));
+
+        mockMvc.perform(delete("/users/me"))
+                .andExpect(status().isAccepted());
+
+        verify(userPurgeService).requestDeletion(mockUser);
+    }
+
+    @Test
+    void deleteCurrentUser_alreadyDeletedShouldReturn404() throws Exception {
+        when(userRepository.findByEmailAndDeletedFalse(mockUser.getEmail())).thenReturn(Optional.empty());
+
+        mockMvc.perform(delete("/users/me"))
+                .andExpect(status().isNotFound());
+
+        verify(userPurgeService, never()).requestDeletion(any(User.class));
+    }
+}
@@ -0,0 +1,74 @@
+package com.akella.todolistapi.journal;
+
+import com.akella.todolistapi.enums.TaskEventType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class TaskEventJournalTest {
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void appendedEvents_shouldBeReadBackInOrderAcrossSegments() throws Exception {
+        TaskEventJournal journal = journal();
+        journal.start();
+        for (long taskId = 0; taskId < 10; taskId++) {
+            journal.append(TaskEvent.of(TaskEventType.CREATED, taskId, 1L));
+        }
+        journal.stop();
+
+        List<TaskEvent> events = readAll(journal, 0);
+
+        assertEquals(10, events.size());
+        assertEquals(4, TaskEventJournal.segments(directory).size());
+        for (int i = 0; i < events.size(); i++) {
+            assertEquals(i, events.get(i).sequence());
+            assertEquals(i, events.get(i).taskId());
+        }
+    }
+
+    @Test
+    void restartedJournal_shouldContinueSequenceAfterLastWrittenEvent() throws Exception {
+        TaskEventJournal journal = journal();
+        journal.start();
+        journal.append(TaskEvent.of(TaskEventType.CREATED, 7L, 1L));
+        journal.stop();
+
+        TaskEventJournal restarted = journal();
+        restarted.start();
+        restarted.append(TaskEvent.of(TaskEventType.COMPLETED, 7L, 1L));
+        restarted.stop();
+
+        List<TaskEvent> events = readAll(restarted, 1);
+
+        assertEquals(1, events.size());
+        assertEquals(1, events.get(0).sequence());
+        assertEquals(TaskEventType.COMPLETED, events.get(0).type());
+    }
+
+    private TaskEventJournal journal() {
+        TaskEventJournal journal = new TaskEventJournal();
+        journal.setDirectory(directory.toString());
+        journal.setSegmentSize(3 * TaskEvent.SIZE);
+        return journal;
+    }
+
+    private static List<TaskEvent> readAll(TaskEventJournal journal, long fromSequence) throws IOException {
+        List<TaskEvent> events = new ArrayList<>();
+        try (TaskEventReader reader = journal.reader(fromSequence)) {
+            TaskEvent event;
+            while ((event = reader.next()) != null) {
+                events.add(event);
+            }
+        }
+        return events;
+    }
+}
@@ -0,0 +1,187 @@
+package com.akella.todolistapi.reactive.controller;
+
+import com.akella.todolistapi.enums.Role;
+import com.akella.todolistapi.enums.TaskEventType;
+import com.akella.todolistapi.journal.TaskEventJournal;
+import com.akella.todolistapi.model.Task;
+import com.akella.todolistapi.model.User;
+import com.akella.todolistapi.reactive.config.ReactiveSecurityConfig;
+import com.akella.todolistapi.reactive.repository.ReactiveTaskRepository;
+import com.akella.todolistapi.reactive.repository.ReactiveUserRepository;
+import com.akella.todolistapi.security.TokenRevocationList;
+import com.akella.todolistapi.service.JwtService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.Date;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Runs through the real {@link ReactiveSecurityConfig}: requests authenticate with bearer tokens issued by
+ * {@link JwtService}.
+ */
+@WebFluxTest(ReactiveTaskController.class)
+@Import({ReactiveSecurityConfig.class, JwtService.class, TokenRevocationList.class})
+@TestPropertySource(properties = {
+        "API_SECRET=dGVzdC1zZWNyZXQtdGhhdC1pcy1sb25nLWVub3VnaC1mb3ItaHMyNTYtc2lnbmluZw==",
+        "API_EXPIRATION_TIME=60000"
+})
+public class ReactiveTaskControllerTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @MockitoBean
+    private ReactiveTaskRepository taskRepository;
+
+    @MockitoBean
+    private TaskEventJournal taskEventJournal;
+
+    @MockitoBean
+    private ReactiveUserRepository userRepository;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private TokenRevocationList tokenRevocationList;
+
+    private User mockUser;
+    private String accessToken;
+    private WebTestClient client;
+
+    @BeforeEach
+    void setUp() {
+        mockUser = User.builder()
+                .id(1L)
+                .email("test@email.com")
+                .role(Role.USER)
+                .build();
+        when(userRepository.findByEmail(mockUser.getEmail())).thenReturn(Mono.just(mockUser));
+        accessToken = jwtService.generateToken(mockUser);
+        client = webTestClient.mutate()
+                .defaultHeader(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
+                .build();
+    }
+
+    @Test
+    void saveTask_shouldReturnTaskDto() {
+        when(taskRepository.insert(any(Task.class))).thenAnswer(invocation -> {
+            Task task = invocation.getArgument(0);
+            task.setId(10L);
+            return Mono.just(task);
+        });
+
+        client.post().uri("/tasks")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"description\":\"Test description\",\"deadlineDateTime\":\"2025-09-22T12:00:00\"}")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.id").isEqualTo(10)
+                .jsonPath("$.description").isEqualTo("Test description");
+
+        verify(taskRepository).insert(argThat(task -> task.getUser() == mockUser));
+        verify(taskEventJournal).append(argThat(event -> event.type() == TaskEventType.CREATED && event.taskId() == 10L));
+    }
+
+    @Test
+    void getAllTasks_shouldReturnTasksOfCurrentUser() {
+        Task task = new Task(10L, LocalDateTime.of(2025, 9, 22, 12, 0), "Test description", false, mockUser);
+        when(taskRepository.findByUserIdOrderByDeadlineDateTimeAsc(1L)).thenReturn(Flux.just(task));
+
+        client.get().uri("/tasks")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$[0].id").isEqualTo(10)
+                .jsonPath("$[0].deadlineDateTime").isEqualTo("2025-09-22T12:00:00");
+    }
+
+    @Test
+    void getAllTasks_shouldNegotiateCbor() {
+        Task task = new Task(10L, LocalDateTime.of(2025, 9, 22, 12, 0), "Test description", false, mockUser);
+        when(taskRepository.findByUserIdOrderByDeadlineDateTimeAsc(1L)).thenReturn(Flux.just(task));
+
+        client.get().uri("/tasks")
+                .accept(MediaType.parseMediaType("application/cbor"))
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType("application/cbor");
+    }
+
+    @Test
+    void completeTask_unknownTaskShouldReturn404() {
+        when(taskRepository.toggleCompleted(99L, 1L)).thenReturn(Mono.empty());
+
+        client.patch().uri("/tasks/99")
+                .exchange()
+                .expectStatus().isNotFound();
+
+        verify(taskEventJournal, never()).append(any());
+    }
+
+    @Test
+    void deleteTask_shouldAppendDeletedEvent() {
+        when(taskRepository.deleteByIdAndUserId(10L, 1L)).thenReturn(Mono.just(1L));
+
+        client.delete().uri("/tasks/10")
+                .exchange()
+                .expectStatus().isOk();
+
+        verify(taskEventJournal).append(argThat(event -> event.type() == TaskEventType.DELETED && event.taskId() == 10L));
+    }
+
+    @Test
+    void getAllTasks_withoutTokenShouldReturn401() {
+        webTestClient.get().uri("/tasks")
+                .exchange()
+                .expectStatus().isUnauthorized()
+                .expectBody()
+                .jsonPath("$.error").isEqualTo("Unauthorized");
+
+        verify(taskRepository, never()).findByUserIdOrderByDeadlineDateTimeAsc(any(Long.class));
+    }
+
+    @Test
+    void getAllTasks_withInvalidTokenShouldReturn401() {
+        webTestClient.get().uri("/tasks")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken.substring(0, accessToken.length() - 2) + "xx")
+                .exchange()
+                .expectStatus().isUnauthorized();
+    }
+
+    @Test
+    void getAllTasks_withRefreshTokenShouldReturn401() {
+        webTestClient.get().uri("/tasks")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + jwtService.generateRefreshToken(mockUser, "refresh-id"))
+                .exchange()
+                .expectStatus().isUnauthorized();
+    }
+
+    @Test
+    void getAllTasks_withRevokedTokenShouldReturn401() {
+        Date expiration = jwtService.extractExpiration(accessToken);
+        tokenRevocationList.revoke(jwtService.extractId(accessToken), expiration.toInstant());
+
+        client.get().uri("/tasks")
+                .exchange()
+                .expectStatus().isUnauthorized();
+    }
+}
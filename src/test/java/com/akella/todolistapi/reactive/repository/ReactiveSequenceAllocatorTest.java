@@ -0,0 +1,75 @@
+package com.akella.todolistapi.reactive.repository;
+
+import com.akella.todolistapi.repository.PooledSequenceAllocator;
+import org.hibernate.id.IdentifierGeneratorHelper;
+import org.hibernate.id.IntegralDataTypeHolder;
+import org.hibernate.id.enhanced.AccessCallback;
+import org.hibernate.id.enhanced.PooledOptimizer;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class ReactiveSequenceAllocatorTest {
+
+    /** A sequence {@code start with 1 increment by 50}, shared by Hibernate and the allocator. */
+    private final AtomicLong sequence = new AtomicLong(1 - PooledSequenceAllocator.SEQUENCE_INCREMENT);
+
+    private final ReactiveSequenceAllocator allocator = new ReactiveSequenceAllocator(null) {
+        @Override
+        Mono<Long> nextval(String sequence) {
+            return Mono.fromSupplier(ReactiveSequenceAllocatorTest.this::nextval);
+        }
+    };
+
+    private final PooledOptimizer optimizer = new PooledOptimizer(Long.class, PooledSequenceAllocator.SEQUENCE_INCREMENT);
+
+    private final AccessCallback callback = new AccessCallback() {
+        @Override
+        public IntegralDataTypeHolder getNextValue() {
+            return IdentifierGeneratorHelper.getIntegralDataTypeHolder(Long.class).initialize(nextval());
+        }
+
+        @Override
+        public String getTenantIdentifier() {
+            return null;
+        }
+    };
+
+    private long nextval() {
+        return sequence.addAndGet(PooledSequenceAllocator.SEQUENCE_INCREMENT);
+    }
+
+    @Test
+    void nextId_shouldNeverOverlapWithHibernatePooledOptimizer() {
+        List<Long> ids = new ArrayList<>();
+        for (int round = 0; round < 20; round++) {
+            for (int i = 0; i < 37; i++) {
+                ids.add((Long) optimizer.generate(callback));
+            }
+            for (int i = 0; i < 73; i++) {
+                ids.add(allocator.nextId("task_seq").block());
+            }
+        }
+
+        assertEquals(ids.size(), new HashSet<>(ids).size());
+    }
+
+    @Test
+    void nextId_shouldStartAtOneOnAFreshSequence() {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 52; i++) {
+            ids.add(allocator.nextId("task_seq").block());
+        }
+
+        assertEquals(1L, ids.get(0));
+        assertEquals(52L, ids.get(51));
+        assertEquals(52, new HashSet<>(ids).size());
+        assertEquals(101, sequence.get());
+    }
+}
@@ -0,0 +1,117 @@
+package com.akella.todolistapi.reactive.service;
+
+import com.akella.todolistapi.enums.Role;
+import com.akella.todolistapi.model.User;
+import com.akella.todolistapi.reactive.repository.ReactiveTokenRepository;
+import com.akella.todolistapi.reactive.repository.ReactiveTokenRepository.StoredRefreshToken;
+import com.akella.todolistapi.reactive.repository.ReactiveUserRepository;
+import com.akella.todolistapi.security.AuthenticationResponse;
+import com.akella.todolistapi.service.JwtService;
+import io.jsonwebtoken.MalformedJwtException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.ReactiveAuthenticationManager;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class ReactiveAuthenticationServiceTest {
+
+    private final ReactiveUserRepository userRepository = mock(ReactiveUserRepository.class);
+    private final ReactiveTokenRepository tokenRepository = mock(ReactiveTokenRepository.class);
+    private final ReactiveTokenRevocationService tokenRevocationService = mock(ReactiveTokenRevocationService.class);
+    private final JwtService jwtService = new JwtService();
+    private final User user = User.builder().id(1L).email("user@mail.com").role(Role.USER).build();
+
+    private ReactiveAuthenticationService authenticationService;
+
+    @BeforeEach
+    void setUp() {
+        jwtService.setSecret("dGVzdC1zZWNyZXQtdGhhdC1pcy1sb25nLWVub3VnaC1mb3ItaHMyNTYtc2lnbmluZw==");
+        jwtService.setExpirationTime(60_000);
+        jwtService.setRefreshExpirationTime(3_600_000);
+        authenticationService = new ReactiveAuthenticationService(userRepository, tokenRepository,
+                mock(PasswordEncoder.class), jwtService, tokenRevocationService,
+                mock(ReactiveAuthenticationManager.class));
+        when(tokenRepository.findRefreshToken("token-1"))
+                .thenReturn(Mono.just(new StoredRefreshToken("token-1", 1L, false)));
+        when(tokenRepository.findRefreshToken("token-2")).thenReturn(Mono.empty());
+        when(tokenRepository.saveRefreshToken(anyString(), anyLong(), any(Instant.class))).thenReturn(Mono.empty());
+        when(tokenRepository.revokeAllRefreshTokensByUserId(1L)).thenReturn(Mono.empty());
+        when(userRepository.findById(1L)).thenReturn(Mono.just(user));
+    }
+
+    @Test
+    void refresh_shouldRotateTheRefreshToken() {
+        when(tokenRepository.revokeRefreshToken("token-1")).thenReturn(Mono.just(true));
+
+        AuthenticationResponse response = authenticationService.refresh(jwtService.generateRefreshToken(user, "token-1")).block();
+
+        ArgumentCaptor<String> savedId = ArgumentCaptor.forClass(String.class);
+        verify(tokenRepository).saveRefreshToken(savedId.capture(), eq(1L), any(Instant.class));
+        assertNotEquals("token-1", savedId.getValue());
+        assertEquals(savedId.getValue(), jwtService.parseRefreshToken(response.getRefreshToken()).getId());
+        assertTrue(jwtService.isValid(response.getToken(), user));
+        verify(tokenRepository, never()).revokeAllRefreshTokensByUserId(anyLong());
+    }
+
+    @Test
+    void refresh_shouldRevokeTheWholeFamilyWhenARotatedTokenIsReplayed() {
+        when(tokenRepository.revokeRefreshToken("token-1")).thenReturn(Mono.just(false));
+
+        Mono<AuthenticationResponse> refresh = authenticationService.refresh(jwtService.generateRefreshToken(user, "token-1"));
+
+        assertThrows(BadCredentialsException.class, refresh::block);
+        verify(tokenRepository).revokeAllRefreshTokensByUserId(1L);
+        verify(tokenRepository, never()).saveRefreshToken(anyString(), anyLong(), any(Instant.class));
+    }
+
+    @Test
+    void refresh_shouldRejectUnknownTokensAndAccessTokens() {
+        assertThrows(BadCredentialsException.class,
+                () -> authenticationService.refresh(jwtService.generateRefreshToken(user, "token-2")).block());
+        assertThrows(MalformedJwtException.class,
+                () -> authenticationService.refresh(jwtService.generateToken(user)).block());
+
+        verify(tokenRepository, never()).saveRefreshToken(anyString(), anyLong(), any(Instant.class));
+    }
+
+    @Test
+    void logout_shouldStillRevokeRefreshTokenWhenAccessTokenHasExpired() {
+        when(tokenRepository.revokeRefreshToken("token-1")).thenReturn(Mono.just(true));
+        String refreshToken = jwtService.generateRefreshToken(user, "token-1");
+        jwtService.setExpirationTime(-1_000);
+
+        authenticationService.logout(jwtService.generateToken(user), refreshToken).block();
+
+        verify(tokenRepository).revokeRefreshToken("token-1");
+        verify(tokenRevocationService, never()).revokeAccessToken(any(), any());
+    }
+
+    @Test
+    void logout_shouldRevokeValidAccessToken() {
+        String accessToken = jwtService.generateToken(user);
+        when(tokenRevocationService.revokeAccessToken(any(), any())).thenReturn(Mono.empty());
+
+        authenticationService.logout(accessToken, null).block();
+
+        verify(tokenRevocationService).revokeAccessToken(jwtService.extractId(accessToken),
+                jwtService.extractExpiration(accessToken).toInstant());
+    }
+}
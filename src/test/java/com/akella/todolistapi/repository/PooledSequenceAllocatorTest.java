@@ -0,0 +1,79 @@
+package com.akella.todolistapi.repository;
+
+import org.hibernate.id.IdentifierGeneratorHelper;
+import org.hibernate.id.IntegralDataTypeHolder;
+import org.hibernate.id.enhanced.AccessCallback;
+import org.hibernate.id.enhanced.PooledOptimizer;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PooledSequenceAllocatorTest {
+
+    /** A sequence {@code start with 1 increment by 50}, shared by Hibernate and the allocator. */
+    private final AtomicLong sequence = new AtomicLong(1 - PooledSequenceAllocator.SEQUENCE_INCREMENT);
+
+    private final PooledSequenceAllocator allocator = new PooledSequenceAllocator(new JdbcTemplate() {
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> List<T> queryForList(String sql, Class<T> elementType, Object... args) {
+            List<T> values = new ArrayList<>();
+            for (int i = 0; i < (Integer) args[0]; i++) {
+                values.add((T) (Long) nextval());
+            }
+            return values;
+        }
+    });
+
+    private final PooledOptimizer optimizer = new PooledOptimizer(Long.class, PooledSequenceAllocator.SEQUENCE_INCREMENT);
+
+    private final AccessCallback callback = new AccessCallback() {
+        @Override
+        public IntegralDataTypeHolder getNextValue() {
+            return IdentifierGeneratorHelper.getIntegralDataTypeHolder(Long.class).initialize(nextval());
+        }
+
+        @Override
+        public String getTenantIdentifier() {
+            return null;
+        }
+    };
+
+    private long nextval() {
+        return sequence.addAndGet(PooledSequenceAllocator.SEQUENCE_INCREMENT);
+    }
+
+    @Test
+    void allocate_shouldNeverOverlapWithHibernatePooledOptimizer() {
+        Set<Long> ids = new HashSet<>();
+        int issued = 0;
+        for (int round = 0; round < 20; round++) {
+            for (int i = 0; i < 37; i++) {
+                ids.add((Long) optimizer.generate(callback));
+                issued++;
+            }
+            for (long id : allocator.allocate("task_seq", 73)) {
+                ids.add(id);
+                issued++;
+            }
+        }
+
+        assertEquals(issued, ids.size());
+        assertTrue(ids.stream().allMatch(id -> id > 0));
+    }
+
+    @Test
+    void allocate_shouldUseTheFirstValueOfAFreshSequenceAsItsOwnBlock() {
+        assertArrayEquals(new long[]{1, 2, 3}, allocator.allocate("task_seq", 3));
+        assertEquals(51, sequence.get());
+    }
+}
@@ -0,0 +1,68 @@
+package com.akella.todolistapi.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TokenRevocationListTest {
+
+    private final TokenRevocationList tokenRevocationList = new TokenRevocationList();
+    private final Instant inOneHour = Instant.now().plus(1, ChronoUnit.HOURS);
+
+    @Test
+    void isRevoked_shouldReportOnlyRevokedUnexpiredTokens() {
+        tokenRevocationList.revoke("revoked", inOneHour);
+        tokenRevocationList.revoke("expired", Instant.now().minusSeconds(1));
+
+        assertTrue(tokenRevocationList.isRevoked("revoked"));
+        assertFalse(tokenRevocationList.isRevoked("expired"));
+        assertFalse(tokenRevocationList.isRevoked("other"));
+        assertFalse(tokenRevocationList.isRevoked(null));
+    }
+
+    @Test
+    void isRevoked_shouldConfirmBloomFilterHitsAgainstTheExactSet() {
+        for (int i = 0; i < 10_000; i++) {
+            tokenRevocationList.revoke(UUID.randomUUID().toString(), inOneHour);
+        }
+
+        // At the configured 1% false positive rate around a thousand of these pass the filter
+        for (int i = 0; i < 100_000; i++) {
+            assertFalse(tokenRevocationList.isRevoked(UUID.randomUUID().toString()));
+        }
+    }
+
+    @Test
+    void revoke_shouldKeepAllEntriesWhenTheFilterIsRebuiltForMoreCapacity() {
+        String[] ids = new String[50_000];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = UUID.randomUUID().toString();
+            tokenRevocationList.revoke(ids[i], inOneHour);
+        }
+
+        assertEquals(ids.length, tokenRevocationList.size());
+        for (String id : ids) {
+            assertTrue(tokenRevocationList.isRevoked(id));
+        }
+    }
+
+    @Test
+    void purgeExpired_shouldDropExpiredEntriesOnly() {
+        Map<String, Instant> entries = new HashMap<>();
+        entries.put("active", inOneHour);
+        entries.put("expired", Instant.now().minusSeconds(1));
+        tokenRevocationList.reset(entries);
+
+        assertEquals(1, tokenRevocationList.purgeExpired());
+        assertEquals(1, tokenRevocationList.size());
+        assertTrue(tokenRevocationList.isRevoked("active"));
+    }
+}
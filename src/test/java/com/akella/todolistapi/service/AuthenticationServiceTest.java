@@ -0,0 +1,104 @@
+package com.akella.todolistapi.service;
+
+import com.akella.todolistapi.enums.Role;
+import com.akella.todolistapi.model.RefreshToken;
+import com.akella.todolistapi.model.User;
+import com.akella.todolistapi.repository.RefreshTokenRepository;
+import com.akella.todolistapi.repository.UserRepository;
+import com.akella.todolistapi.security.AuthenticationResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Instant;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class AuthenticationServiceTest {
+
+    private final RefreshTokenRepository refreshTokenRepository = mock(RefreshTokenRepository.class);
+    private final TokenRevocationService tokenRevocationService = mock(TokenRevocationService.class);
+    private final JwtService jwtService = JwtServiceTest.jwtService(JwtServiceTest.SECRET);
+    private final User user = User.builder().id(1L).email("user@mail.com").role(Role.USER).build();
+
+    private AuthenticationService authenticationService;
+
+    @BeforeEach
+    void setUp() {
+        authenticationService = new AuthenticationService(mock(UserRepository.class), refreshTokenRepository,
+                mock(PasswordEncoder.class), jwtService, tokenRevocationService,
+                mock(AuthenticationManager.class));
+        when(refreshTokenRepository.findById("token-1")).thenReturn(Optional.of(RefreshToken.builder()
+                .id("token-1")
+                .user(user)
+                .expiresAt(Instant.now().plusSeconds(3_600))
+                .build()));
+    }
+
+    @Test
+    void refresh_shouldRotateTheRefreshToken() {
+        when(refreshTokenRepository.revokeIfActive("token-1")).thenReturn(1);
+
+        AuthenticationResponse response = authenticationService.refresh(jwtService.generateRefreshToken(user, "token-1"));
+
+        ArgumentCaptor<RefreshToken> saved = ArgumentCaptor.forClass(RefreshToken.class);
+        verify(refreshTokenRepository).save(saved.capture());
+        assertNotEquals("token-1", saved.getValue().getId());
+        assertEquals(saved.getValue().getId(), jwtService.parseRefreshToken(response.getRefreshToken()).getId());
+        assertTrue(jwtService.isValid(response.getToken(), user));
+        verify(refreshTokenRepository, never()).revokeAllByUser(any());
+    }
+
+    @Test
+    void refresh_shouldRevokeTheWholeFamilyWhenARotatedTokenIsReplayed() {
+        when(refreshTokenRepository.revokeIfActive("token-1")).thenReturn(0);
+
+        assertThrows(BadCredentialsException.class,
+                () -> authenticationService.refresh(jwtService.generateRefreshToken(user, "token-1")));
+
+        verify(refreshTokenRepository).revokeAllByUser(user);
+        verify(refreshTokenRepository, never()).save(any());
+    }
+
+    @Test
+    void refresh_shouldRejectUnknownTokens() {
+        assertThrows(BadCredentialsException.class,
+                () -> authenticationService.refresh(jwtService.generateRefreshToken(user, "token-2")));
+
+        verify(refreshTokenRepository, never()).save(any());
+    }
+
+    @Test
+    void logout_shouldRevokeRefreshAndAccessToken() {
+        String accessToken = jwtService.generateToken(user);
+
+        authenticationService.logout(accessToken, jwtService.generateRefreshToken(user, "token-1"));
+
+        verify(refreshTokenRepository).revokeIfActive("token-1");
+        verify(tokenRevocationService).revokeAccessToken(jwtService.extractId(accessToken),
+                jwtService.extractExpiration(accessToken).toInstant());
+    }
+
+    @Test
+    void logout_shouldStillRevokeRefreshTokenWhenAccessTokenHasExpired() {
+        JwtService expiredTokens = JwtServiceTest.jwtService(JwtServiceTest.SECRET);
+        expiredTokens.setExpirationTime(-1_000);
+
+        authenticationService.logout(expiredTokens.generateToken(user), jwtService.generateRefreshToken(user, "token-1"));
+
+        verify(refreshTokenRepository).revokeIfActive("token-1");
+        verify(tokenRevocationService, never()).revokeAccessToken(any(), any());
+    }
+}
@@ -0,0 +1,75 @@
+package com.akella.todolistapi.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class ChannelLineReaderTest {
+
+    private static final String CONTENT = "first,line\r\nzweite Zeile mit Umlauten äöü\n\ntäsk ✓ 😀\nlast without newline";
+    private static final List<String> LINES =
+            List.of("first,line", "zweite Zeile mit Umlauten äöü", "", "täsk ✓ 😀", "last without newline");
+
+    @TempDir
+    Path directory;
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 3, 5, 7, 64, 1 << 20})
+    void readLine_shouldSplitLinesAcrossBufferBoundaries(int bufferSize) throws IOException {
+        Path file = write(CONTENT);
+
+        List<String> lines = new ArrayList<>();
+        try (ChannelLineReader reader = new ChannelLineReader(file, 0, bufferSize)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lines.add(line);
+            }
+            assertEquals(Files.size(file), reader.position());
+        }
+
+        assertEquals(LINES, lines);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 3, 1 << 20})
+    void position_shouldAllowReopeningAfterTheLastReturnedLine(int bufferSize) throws IOException {
+        Path file = write(CONTENT);
+
+        long offset;
+        try (ChannelLineReader reader = new ChannelLineReader(file, 0, bufferSize)) {
+            reader.readLine();
+            reader.readLine();
+            offset = reader.position();
+        }
+
+        try (ChannelLineReader reader = new ChannelLineReader(file, offset, bufferSize)) {
+            assertEquals(LINES.get(2), reader.readLine());
+            assertEquals(LINES.get(3), reader.readLine());
+            assertEquals(LINES.get(4), reader.readLine());
+            assertNull(reader.readLine());
+        }
+    }
+
+    @Test
+    void readLine_shouldReturnNullForEmptyFile() throws IOException {
+        try (ChannelLineReader reader = new ChannelLineReader(write(""), 0)) {
+            assertNull(reader.readLine());
+            assertEquals(0, reader.position());
+        }
+    }
+
+    private Path write(String content) throws IOException {
+        return Files.writeString(directory.resolve("tasks.csv"), content, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,115 @@
+package com.akella.todolistapi.service;
+
+import com.akella.todolistapi.repository.TaskJdbcRepository;
+import com.akella.todolistapi.repository.UserJdbcRepository;
+import com.akella.todolistapi.service.DatasetGeneratorService.DatasetResult;
+import com.akella.todolistapi.service.DatasetGeneratorService.DatasetSpec;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.CRC32;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class DatasetGeneratorServiceTest {
+
+    /** Ids depend on which thread reaches the sequence first, so generated rows are compared by email. */
+    private final Map<Long, String> emailsById = new ConcurrentHashMap<>();
+    private final Map<String, List<String>> tasksByEmail = new ConcurrentHashMap<>();
+    private final AtomicLong nextId = new AtomicLong(1);
+
+    private final DatasetGeneratorService datasetGeneratorService;
+
+    DatasetGeneratorServiceTest() {
+        UserJdbcRepository userJdbcRepository = mock(UserJdbcRepository.class);
+        TaskJdbcRepository taskJdbcRepository = mock(TaskJdbcRepository.class);
+        PasswordEncoder passwordEncoder = mock(PasswordEncoder.class);
+        when(passwordEncoder.encode(any())).thenReturn("encoded");
+        when(userJdbcRepository.insertBatch(any(), any(), any())).thenAnswer(invocation -> {
+            List<String> emails = invocation.getArgument(0);
+            long[] ids = new long[emails.size()];
+            for (int i = 0; i < ids.length; i++) {
+                ids[i] = nextId.getAndIncrement();
+                emailsById.put(ids[i], emails.get(i));
+            }
+            return ids;
+        });
+        doAnswer(invocation -> {
+            for (TaskJdbcRepository.Row row : invocation.<List<TaskJdbcRepository.Row>>getArgument(0)) {
+                tasksByEmail.computeIfAbsent(emailsById.get(row.userId()), email -> new ArrayList<>())
+                        .add(row.description() + "|" + row.deadlineDateTime() + "|" + row.completed());
+            }
+            return null;
+        }).when(taskJdbcRepository).insertBatch(any());
+        datasetGeneratorService = new DatasetGeneratorService(userJdbcRepository, taskJdbcRepository, passwordEncoder);
+    }
+
+    @Test
+    void generate_shouldProduceTheSameDataForAnyNumberOfThreads() throws Exception {
+        DatasetResult single = datasetGeneratorService.generate(spec(42).threads(1).build());
+        long singleChecksum = checksum();
+
+        tasksByEmail.clear();
+        DatasetResult parallel = datasetGeneratorService.generate(spec(42).threads(4).build());
+
+        assertEquals(2_500, single.users());
+        assertEquals(single.users(), parallel.users());
+        assertEquals(single.tasks(), parallel.tasks());
+        assertEquals(singleChecksum, checksum());
+
+        tasksByEmail.clear();
+        datasetGeneratorService.generate(spec(43).threads(4).build());
+        assertNotEquals(singleChecksum, checksum());
+    }
+
+    @Test
+    void spec_shouldRejectValuesThatWouldHangOrProduceNothing() {
+        assertThrows(IllegalArgumentException.class, () -> spec(1).users(0).build());
+        assertThrows(IllegalArgumentException.class, () -> spec(1).maxTasksPerUser(0).build());
+        assertThrows(IllegalArgumentException.class, () -> spec(1).skew(Double.NaN).build());
+        assertThrows(IllegalArgumentException.class, () -> spec(1).nullDeadlineRatio(1.5).build());
+        assertThrows(IllegalArgumentException.class, () -> spec(1).completedRatio(-0.1).build());
+        assertThrows(IllegalArgumentException.class, () -> spec(1).minDescriptionLength(20).maxDescriptionLength(10).build());
+        assertThrows(IllegalArgumentException.class, () -> spec(1).batchSize(0).build());
+        assertThrows(IllegalArgumentException.class, () -> spec(1).threads(-1).build());
+        assertThrows(IllegalArgumentException.class, () -> spec(1).deadlineAnchor(null).build());
+    }
+
+    private long checksum() {
+        CRC32 crc = new CRC32();
+        new TreeMap<>(tasksByEmail).forEach((email, tasks) -> {
+            crc.update(email.getBytes(StandardCharsets.UTF_8));
+            tasks.forEach(task -> crc.update(task.getBytes(StandardCharsets.UTF_8)));
+        });
+        return crc.getValue();
+    }
+
+    private static DatasetSpec.DatasetSpecBuilder spec(long seed) {
+        return DatasetSpec.builder()
+                .users(2_500)
+                .maxTasksPerUser(50)
+                .skew(1.2)
+                .seed(seed)
+                .nullDeadlineRatio(0.3)
+                .completedRatio(0.4)
+                .minDescriptionLength(10)
+                .maxDescriptionLength(120)
+                .deadlineAnchor(LocalDateTime.of(2025, 1, 1, 0, 0))
+                .batchSize(97)
+                .threads(1);
+    }
+}
@@ -0,0 +1,56 @@
+package com.akella.todolistapi.service;
+
+import com.akella.todolistapi.enums.Role;
+import com.akella.todolistapi.model.User;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.MalformedJwtException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class JwtServiceTest {
+
+    static final String SECRET = "dGVzdC1zZWNyZXQtdGhhdC1pcy1sb25nLWVub3VnaC1mb3ItaHMyNTYtc2lnbmluZw==";
+
+    private final JwtService jwtService = jwtService(SECRET);
+    private final User user = User.builder().id(1L).email("user@mail.com").role(Role.USER).build();
+
+    static JwtService jwtService(String secret) {
+        JwtService jwtService = new JwtService();
+        jwtService.setSecret(secret);
+        jwtService.setExpirationTime(60_000);
+        jwtService.setRefreshExpirationTime(3_600_000);
+        return jwtService;
+    }
+
+    @Test
+    void isValid_shouldAcceptAccessTokens() {
+        assertTrue(jwtService.isValid(jwtService.generateToken(user), user));
+    }
+
+    @Test
+    void isValid_shouldRejectRefreshTokenUsedAsAccessToken() {
+        String refreshToken = jwtService.generateRefreshToken(user, "refresh-id");
+
+        assertFalse(jwtService.isValid(refreshToken, user));
+    }
+
+    @Test
+    void parseRefreshToken_shouldRejectAccessTokens() {
+        String accessToken = jwtService.generateToken(user);
+
+        assertThrows(MalformedJwtException.class, () -> jwtService.parseRefreshToken(accessToken));
+        assertEquals("refresh-id", jwtService.parseRefreshToken(jwtService.generateRefreshToken(user, "refresh-id")).getId());
+    }
+
+    @Test
+    void parseRefreshToken_shouldRejectTokensSignedWithAnotherKey() {
+        String foreign = jwtService("b3RoZXItc2VjcmV0LXRoYXQtaXMtbG9uZy1lbm91Z2gtZm9yLWhzMjU2LXNpZ25pbmc=")
+                .generateRefreshToken(user, "refresh-id");
+
+        assertThrows(JwtException.class, () -> jwtService.parseRefreshToken(foreign));
+    }
+}
@@ -0,0 +1,139 @@
+package com.akella.todolistapi.service;
+
+import com.akella.todolistapi.model.User;
+import com.akella.todolistapi.repository.TaskImportCheckpointRepository;
+import com.akella.todolistapi.repository.TaskImportCheckpointRepository.Checkpoint;
+import com.akella.todolistapi.repository.TaskJdbcRepository;
+import com.akella.todolistapi.repository.UserRepository;
+import com.akella.todolistapi.service.TaskImportService.ImportResult;
+import com.akella.todolistapi.service.TaskImportService.ImportedTask;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class TaskImportServiceTest {
+
+    private final TaskJdbcRepository taskJdbcRepository = mock(TaskJdbcRepository.class);
+    private final TaskImportCheckpointRepository checkpointRepository = mock(TaskImportCheckpointRepository.class);
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final List<TaskJdbcRepository.Row> inserted = new ArrayList<>();
+
+    private TaskImportService taskImportService;
+
+    @TempDir
+    Path directory;
+
+    @BeforeEach
+    void setUp() {
+        taskImportService = new TaskImportService(taskJdbcRepository, checkpointRepository, userRepository,
+                new ObjectMapper().findAndRegisterModules(),
+                new TransactionTemplate(mock(PlatformTransactionManager.class)));
+        when(checkpointRepository.findBySource(anyString())).thenReturn(Optional.empty());
+        when(userRepository.findByEmailAndDeletedFalse(anyString())).thenReturn(Optional.empty());
+        when(userRepository.findByEmailAndDeletedFalse("user@mail.com")).thenReturn(Optional.of(User.builder().id(7L).build()));
+        when(userRepository.findByEmail("deleted@mail.com"))
+                .thenReturn(Optional.of(User.builder().id(8L).deleted(true).build()));
+        doAnswer(invocation -> inserted.addAll(invocation.getArgument(0)))
+                .when(taskJdbcRepository).insertBatch(any());
+    }
+
+    @Test
+    void parseCsv_shouldHandleQuotedFields() {
+        ImportedTask task = TaskImportService.parseCsv("user@mail.com,\"Buy milk, \"\"fresh\"\"\",2025-01-02T10:15:00,true");
+
+        assertEquals("user@mail.com", task.email());
+        assertEquals("Buy milk, \"fresh\"", task.description());
+        assertEquals(LocalDateTime.of(2025, 1, 2, 10, 15), task.deadlineDateTime());
+        assertTrue(task.isCompleted());
+    }
+
+    @Test
+    void parseCsv_shouldDefaultOptionalFields() {
+        ImportedTask task = TaskImportService.parseCsv("user@mail.com,Task,");
+
+        assertEquals(null, task.deadlineDateTime());
+        assertFalse(task.isCompleted());
+    }
+
+    @Test
+    void parseCsv_shouldRejectMalformedLines() {
+        assertThrows(IllegalArgumentException.class, () -> TaskImportService.parseCsv("user@mail.com,\"Multi"));
+        assertThrows(IllegalArgumentException.class, () -> TaskImportService.parseCsv("user@mail.com,Task"));
+        assertThrows(IllegalArgumentException.class, () -> TaskImportService.parseCsv("user@mail.com,Task,,yes"));
+        assertThrows(IllegalArgumentException.class, () -> TaskImportService.parseCsv("a,b,,true,extra"));
+    }
+
+    @Test
+    void importTasks_shouldSkipRowsTheTaskTableWouldReject() throws IOException {
+        Path file = write("tasks.csv", """
+                email,description,deadlineDateTime,isCompleted
+                user@mail.com,Valid,2025-01-02T10:15:00,false
+                user@mail.com,%s,,false
+                user@mail.com,"Quoted line
+                break",,false
+                user@mail.com,Bad date,tomorrow,false
+                user@mail.com,,,false
+                unknown@mail.com,No such user,,false
+                deleted@mail.com,Soft-deleted user,,false
+                user@mail.com,"Also, valid",,true
+                """.formatted("x".repeat(TaskImportService.MAX_DESCRIPTION_LENGTH + 1)));
+
+        ImportResult result = taskImportService.importTasks(file, 100, false);
+
+        assertEquals(2, result.imported());
+        assertEquals(7, result.skipped());
+        assertEquals(List.of("Valid", "Also, valid"), inserted.stream().map(TaskJdbcRepository.Row::description).toList());
+        assertTrue(inserted.get(1).completed());
+    }
+
+    @Test
+    void importTasks_shouldCheckpointEveryBatchAndResumeFromTheSavedOffset() throws IOException {
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < 5; i++) {
+            content.append("{\"email\":\"user@mail.com\",\"description\":\"Task ").append(i).append("\"}\n");
+        }
+        Path file = write("tasks.ndjson", content.toString());
+        String source = file.toAbsolutePath().normalize().toString();
+        long afterSecondLine = content.indexOf("\n", content.indexOf("\n") + 1) + 1;
+
+        taskImportService.importTasks(file, 2, false);
+        verify(checkpointRepository).save(source, new Checkpoint(afterSecondLine, 2));
+        verify(checkpointRepository).save(source, new Checkpoint(Files.size(file), 5));
+
+        inserted.clear();
+        when(checkpointRepository.findBySource(source)).thenReturn(Optional.of(new Checkpoint(afterSecondLine, 2)));
+        ImportResult resumed = taskImportService.importTasks(file, 2, false);
+
+        assertEquals(afterSecondLine, resumed.resumedFrom());
+        assertEquals(3, resumed.imported());
+        assertEquals(List.of("Task 2", "Task 3", "Task 4"),
+                inserted.stream().map(TaskJdbcRepository.Row::description).toList());
+    }
+
+    private Path write(String name, String content) throws IOException {
+        return Files.writeString(directory.resolve(name), content, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,51 @@
+package com.akella.todolistapi.service;
+
+import com.akella.todolistapi.model.RevokedToken;
+import com.akella.todolistapi.repository.RefreshTokenRepository;
+import com.akella.todolistapi.repository.RevokedTokenRepository;
+import com.akella.todolistapi.security.TokenRevocationList;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class TokenRevocationServiceTest {
+
+    private final RevokedTokenRepository revokedTokenRepository = mock(RevokedTokenRepository.class);
+    private final TokenRevocationList tokenRevocationList = new TokenRevocationList();
+    private final TokenRevocationService tokenRevocationService = new TokenRevocationService(revokedTokenRepository,
+            mock(RefreshTokenRepository.class), tokenRevocationList);
+
+    private final Instant expiresAt = Instant.now().plusSeconds(600);
+    private final Instant loadedAt = Instant.parse("2025-01-01T10:00:00Z");
+
+    @Test
+    void synchronize_shouldPickUpRevocationsOfOtherInstancesSinceTheLastPoll() {
+        when(revokedTokenRepository.findByExpiresAtAfter(any()))
+                .thenReturn(List.of(new RevokedToken("loaded", expiresAt, loadedAt)));
+        tokenRevocationService.loadRevokedTokens();
+
+        Instant revokedElsewhereAt = loadedAt.plusSeconds(5);
+        when(revokedTokenRepository.findByCreatedAtAfterAndExpiresAtAfter(eq(loadedAt.minus(TokenRevocationService.SYNC_OVERLAP)), any()))
+                .thenReturn(List.of(new RevokedToken("elsewhere", expiresAt, revokedElsewhereAt)));
+        assertFalse(tokenRevocationList.isRevoked("elsewhere"));
+
+        tokenRevocationService.synchronize();
+
+        assertTrue(tokenRevocationList.isRevoked("loaded"));
+        assertTrue(tokenRevocationList.isRevoked("elsewhere"));
+
+        tokenRevocationService.synchronize();
+
+        verify(revokedTokenRepository).findByCreatedAtAfterAndExpiresAtAfter(
+                eq(revokedElsewhereAt.minus(TokenRevocationService.SYNC_OVERLAP)), any());
+    }
+}
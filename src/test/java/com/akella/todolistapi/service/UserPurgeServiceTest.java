@@ -0,0 +1,161 @@
+package com.akella.todolistapi.service;
+
+import com.akella.todolistapi.model.User;
+import com.akella.todolistapi.repository.RefreshTokenRepository;
+import com.akella.todolistapi.repository.TaskJdbcRepository;
+import com.akella.todolistapi.repository.UserJdbcRepository;
+import com.akella.todolistapi.repository.UserPurgeRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class UserPurgeServiceTest {
+
+    private final UserJdbcRepository userJdbcRepository = mock(UserJdbcRepository.class);
+    private final TaskJdbcRepository taskJdbcRepository = mock(TaskJdbcRepository.class);
+    private final RefreshTokenRepository refreshTokenRepository = mock(RefreshTokenRepository.class);
+    private final UserPurgeRepository userPurgeRepository = mock(UserPurgeRepository.class);
+
+    private UserPurgeService userPurgeService;
+
+    @BeforeEach
+    void setUp() {
+        userPurgeService = new UserPurgeService(userJdbcRepository, taskJdbcRepository,
+                refreshTokenRepository, userPurgeRepository, new TransactionTemplate(mock(PlatformTransactionManager.class)));
+        userPurgeService.setChunkSize(2);
+        userPurgeService.start();
+        when(userPurgeRepository.addProgress(anyLong(), anyString(), anyInt(), any())).thenReturn(true);
+        when(userPurgeRepository.markCompleted(anyLong(), anyString())).thenReturn(true);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        userPurgeService.stop();
+    }
+
+    @Test
+    void requestDeletion_shouldOnlyFlagTheUserRow() {
+        User user = User.builder().id(7L).email("user@mail.com").build();
+
+        userPurgeService.requestDeletion(user);
+
+        verify(userJdbcRepository).markDeleted(7L);
+        verify(refreshTokenRepository).revokeAllByUser(user);
+        verify(userPurgeRepository).createPending(7L);
+    }
+
+    @Test
+    void purge_shouldDeleteTasksInChunksBeforeTheUser() {
+        when(taskJdbcRepository.deleteChunkByUser(7L, 2)).thenReturn(2, 2, 1);
+
+        assertEquals(5, userPurgeService.purge(7L));
+
+        InOrder order = inOrder(taskJdbcRepository, userPurgeRepository, refreshTokenRepository, userJdbcRepository);
+        order.verify(taskJdbcRepository).deleteChunkByUser(7L, 2);
+        order.verify(userPurgeRepository).addProgress(eq(7L), anyString(), eq(2), any());
+        order.verify(taskJdbcRepository).deleteChunkByUser(7L, 2);
+        order.verify(userPurgeRepository).addProgress(eq(7L), anyString(), eq(2), any());
+        order.verify(taskJdbcRepository).deleteChunkByUser(7L, 2);
+        order.verify(userPurgeRepository).addProgress(eq(7L), anyString(), eq(1), any());
+        order.verify(userPurgeRepository).markCompleted(eq(7L), anyString());
+        order.verify(refreshTokenRepository).deleteAllByUserId(7L);
+        order.verify(userJdbcRepository).deleteSoftDeleted(7L);
+    }
+
+    @Test
+    void interruptedPurge_shouldStayPendingWithCommittedProgress() {
+        when(taskJdbcRepository.deleteChunkByUser(7L, 2)).thenReturn(2).thenThrow(new IllegalStateException("connection lost"));
+
+        assertThrows(IllegalStateException.class, () -> userPurgeService.purge(7L));
+
+        verify(userPurgeRepository).addProgress(eq(7L), anyString(), eq(2), any());
+        verify(userJdbcRepository, never()).deleteSoftDeleted(7L);
+        verify(userPurgeRepository, never()).markCompleted(eq(7L), anyString());
+    }
+
+    @Test
+    void lostClaim_shouldStopThePurge() {
+        when(taskJdbcRepository.deleteChunkByUser(7L, 2)).thenReturn(2);
+        when(userPurgeRepository.addProgress(anyLong(), anyString(), anyInt(), any())).thenReturn(true, false);
+
+        assertThrows(IllegalStateException.class, () -> userPurgeService.purge(7L));
+
+        verify(taskJdbcRepository, times(2)).deleteChunkByUser(7L, 2);
+        verify(userJdbcRepository, never()).deleteSoftDeleted(7L);
+        verify(userPurgeRepository, never()).markCompleted(eq(7L), anyString());
+    }
+
+    @Test
+    void purgePending_shouldRunClaimedPurgesOnTheWorkers() throws InterruptedException {
+        when(userPurgeRepository.claimNext(anyString(), any())).thenReturn(Optional.of(7L), Optional.of(8L), Optional.empty());
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+        when(taskJdbcRepository.deleteChunkByUser(anyLong(), eq(2))).thenAnswer(invocation -> {
+            threads.add(Thread.currentThread().getName());
+            return 0;
+        });
+        userPurgeService.stop();
+        userPurgeService.setWorkers(2);
+        userPurgeService.start();
+
+        userPurgeService.purgePending();
+
+        verify(userJdbcRepository, timeout(1_000)).deleteSoftDeleted(7L);
+        verify(userJdbcRepository, timeout(1_000)).deleteSoftDeleted(8L);
+        assertTrue(threads.stream().allMatch(name -> name.startsWith("user-purge-")));
+    }
+
+    @Test
+    void purgePending_shouldNotClaimMoreThanTheFreeWorkers() throws InterruptedException {
+        when(userPurgeRepository.claimNext(anyString(), any())).thenReturn(Optional.of(7L), Optional.of(8L));
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch proceed = new CountDownLatch(1);
+        when(taskJdbcRepository.deleteChunkByUser(7L, 2)).thenAnswer(invocation -> {
+            running.countDown();
+            proceed.await();
+            return 0;
+        });
+
+        userPurgeService.purgePending();
+        running.await();
+        userPurgeService.purgePending();
+        proceed.countDown();
+
+        verify(userJdbcRepository, timeout(1_000)).deleteSoftDeleted(7L);
+        verify(userPurgeRepository, times(1)).claimNext(anyString(), any());
+    }
+
+    @Test
+    void failedPurge_shouldReleaseTheClaim() {
+        when(userPurgeRepository.claimNext(anyString(), any())).thenReturn(Optional.of(7L), Optional.empty());
+        when(taskJdbcRepository.deleteChunkByUser(7L, 2)).thenThrow(new IllegalStateException("connection lost"));
+
+        userPurgeService.purgePending();
+
+        verify(userPurgeRepository, timeout(1_000)).release(eq(7L), anyString());
+        verify(userJdbcRepository, never()).deleteSoftDeleted(7L);
+    }
+}
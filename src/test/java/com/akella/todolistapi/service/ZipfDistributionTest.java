@@ -0,0 +1,66 @@
+package com.akella.todolistapi.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ZipfDistributionTest {
+
+    private static final int SAMPLES = 200_000;
+
+    @Test
+    void sample_shouldFollowTheZipfLaw() {
+        int n = 100;
+        double exponent = 1.2;
+        int[] counts = sample(new ZipfDistribution(n, exponent), n);
+
+        double harmonic = 0;
+        for (int k = 1; k <= n; k++) {
+            harmonic += 1 / Math.pow(k, exponent);
+        }
+        for (int rank = 1; rank <= 3; rank++) {
+            double expected = 1 / Math.pow(rank, exponent) / harmonic;
+            assertEquals(expected, (double) counts[rank] / SAMPLES, 0.01, "rank " + rank);
+            assertTrue(counts[rank] > counts[rank + 1]);
+        }
+    }
+
+    @Test
+    void sample_shouldBeUniformWithoutSkew() {
+        int[] counts = sample(new ZipfDistribution(4, 0), 4);
+
+        for (int rank = 1; rank <= 4; rank++) {
+            assertEquals(0.25, (double) counts[rank] / SAMPLES, 0.01);
+        }
+    }
+
+    @Test
+    void sample_shouldAlwaysReturnOneForASingleRank() {
+        int[] counts = sample(new ZipfDistribution(1, 2), 1);
+
+        assertEquals(SAMPLES, counts[1]);
+    }
+
+    @Test
+    void constructor_shouldRejectEmptyRange() {
+        assertThrows(IllegalArgumentException.class, () -> new ZipfDistribution(0, 1));
+    }
+
+    /**
+     * @return number of samples per rank, indexed by rank; fails on a rank outside {@code 1..n}
+     */
+    private static int[] sample(ZipfDistribution distribution, int n) {
+        SplittableRandom random = new SplittableRandom(7);
+        int[] counts = new int[n + 1];
+        for (int i = 0; i < SAMPLES; i++) {
+            int rank = distribution.sample(random);
+            assertTrue(rank >= 1 && rank <= n, "rank " + rank);
+            counts[rank]++;
+        }
+        return counts;
+    }
+}